@@ -0,0 +1,89 @@
+package com.champsoft.universitydepartmentsystem.benchmarks;
+
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentResponseModel;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentWithProfessorsResponseDTO;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorResponseModel;
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
+import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Allocation/latency baseline for the mapper layer and Jackson serialization of the response DTOs.
+// Run with the gc profiler (default in build.gradle) to see bytes allocated per operation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int professorsPerDepartment;
+
+    private final ProfessorMapper professorMapper = new ProfessorMapper();
+    private final DepartmentMapper departmentMapper = new DepartmentMapper(professorMapper);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Department department;
+    private Professor professor;
+    private DepartmentResponseModel departmentResponse;
+    private DepartmentWithProfessorsResponseDTO departmentWithProfessors;
+    private List<ProfessorResponseModel> professorResponses;
+
+    @Setup
+    public void setUp() {
+        department = new Department("Computer Science", "CS", 1995);
+        department.setId(1L);
+        for (int i = 0; i < professorsPerDepartment; i++) {
+            Professor p = new Professor("First" + i, "Last" + i, "prof" + i + "@uni.ca", "Lecturer", department);
+            p.setId((long) i + 1);
+            department.getProfessors().add(p);
+        }
+        professor = department.getProfessors().iterator().next();
+
+        departmentResponse = departmentMapper.toResponseModel(department);
+        departmentWithProfessors = departmentMapper.toDepartmentWithProfessorsResponseDTO(department);
+        professorResponses = department.getProfessors().stream().map(professorMapper::toResponseModel).toList();
+    }
+
+    @Benchmark
+    public DepartmentResponseModel departmentToResponseModel() {
+        return departmentMapper.toResponseModel(department);
+    }
+
+    @Benchmark
+    public DepartmentWithProfessorsResponseDTO departmentToDepartmentWithProfessors() {
+        return departmentMapper.toDepartmentWithProfessorsResponseDTO(department);
+    }
+
+    @Benchmark
+    public ProfessorResponseModel professorToResponseModel() {
+        return professorMapper.toResponseModel(professor);
+    }
+
+    @Benchmark
+    public byte[] serializeDepartmentResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(departmentResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeDepartmentWithProfessors() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(departmentWithProfessors);
+    }
+
+    @Benchmark
+    public byte[] serializeProfessorList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(professorResponses);
+    }
+}
@@ -0,0 +1,157 @@
+package com.champsoft.universitydepartmentsystem.benchmarks;
+
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.DepartmentService;
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorImportService;
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorSearchService;
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorService;
+import com.champsoft.universitydepartmentsystem.DTO.CursorPageResponse;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentPageRequest;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentProfessorsRequest;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentResponseModel;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentWithProfessorsResponseDTO;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorPageRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorResponseModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchResult;
+import com.champsoft.universitydepartmentsystem.UniversityDepartmentSystemApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// End-to-end service read paths against an in-memory H2 database (PostgreSQL mode) seeded with
+// 10 / 1k / 100k professors. Caching is disabled so every invocation exercises the query and mapping path.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    private static final String[] DEPARTMENT_CODES = {"CS", "HIST", "PHYS", "BIO", "CHEM", "ENG", "ART", "ECON", "LAW", "PHIL"};
+
+    @Param({"10", "1000", "100000"})
+    public int professorCount;
+
+    private ConfigurableApplicationContext context;
+    private DepartmentService departmentService;
+    private ProfessorService professorService;
+    private ProfessorSearchService professorSearchService;
+    private ProfessorPageRequest firstProfessorPage;
+    private ProfessorPageRequest filteredProfessorPage;
+    private DepartmentPageRequest departmentPage;
+    private DepartmentProfessorsRequest allProfessors;
+    private DepartmentProfessorsRequest firstProfessorsOfDepartment;
+    private ProfessorSearchRequest oneWordSearch;
+    private ProfessorSearchRequest twoWordSearch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Command-line arguments: unlike SpringApplicationBuilder.properties() they override application.properties
+        context = new SpringApplicationBuilder(UniversityDepartmentSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--app.datasource.url=jdbc:h2:mem:bench" + professorCount + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--app.datasource.username=sa",
+                        "--app.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.flyway.enabled=false",
+                        "--spring.cache.type=none",
+                        "--logging.level.root=WARN");
+        departmentService = context.getBean(DepartmentService.class);
+        professorService = context.getBean(ProfessorService.class);
+        professorSearchService = context.getBean(ProfessorSearchService.class);
+        seed(context.getBean(ProfessorImportService.class));
+
+        firstProfessorPage = new ProfessorPageRequest();
+        filteredProfessorPage = new ProfessorPageRequest();
+        filteredProfessorPage.setDepartmentCode("CS");
+        filteredProfessorPage.setSort("lastName");
+        departmentPage = new DepartmentPageRequest();
+        allProfessors = new DepartmentProfessorsRequest();
+        firstProfessorsOfDepartment = new DepartmentProfessorsRequest();
+        firstProfessorsOfDepartment.setLimit(50);
+        oneWordSearch = new ProfessorSearchRequest();
+        oneWordSearch.setQ("last1");
+        twoWordSearch = new ProfessorSearchRequest();
+        twoWordSearch.setQ("bench12 lect");
+    }
+
+    // Seeds through the bulk import path (NDJSON, batched inserts), spread over the 10 seeded departments
+    private void seed(ProfessorImportService importService) throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < professorCount; i++) {
+            ndjson.append("{\"firstName\":\"Bench").append(i)
+                    .append("\",\"lastName\":\"Last").append(i % 997)
+                    .append("\",\"email\":\"bench").append(i).append("@uni.ca")
+                    .append("\",\"title\":\"Lecturer\",\"departmentCode\":\"").append(DEPARTMENT_CODES[i % DEPARTMENT_CODES.length])
+                    .append("\"}\n");
+        }
+        importService.importProfessors(new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageResponse<DepartmentResponseModel> departmentsPage() {
+        return departmentService.getDepartmentsPage(departmentPage);
+    }
+
+    @Benchmark
+    public DepartmentResponseModel departmentById() {
+        return departmentService.findById(1L);
+    }
+
+    @Benchmark
+    public DepartmentWithProfessorsResponseDTO departmentWithProfessors() {
+        return departmentService.getDepartmentWithProfessors(1L, allProfessors);
+    }
+
+    @Benchmark
+    public DepartmentWithProfessorsResponseDTO departmentWithFirstProfessorPage() {
+        return departmentService.getDepartmentWithProfessors(1L, firstProfessorsOfDepartment);
+    }
+
+    @Benchmark
+    public CursorPageResponse<ProfessorResponseModel> professorsFirstPage() {
+        return professorService.findPage(firstProfessorPage);
+    }
+
+    @Benchmark
+    public CursorPageResponse<ProfessorResponseModel> professorsFilteredByDepartmentSortedByName() {
+        return professorService.findPage(filteredProfessorPage);
+    }
+
+    @Benchmark
+    public List<ProfessorSearchResult> searchOneWordPrefix() {
+        return professorSearchService.search(oneWordSearch);
+    }
+
+    @Benchmark
+    public List<ProfessorSearchResult> searchTwoWords() {
+        return professorSearchService.search(twoWordSearch);
+    }
+
+    @Benchmark
+    public ProfessorResponseModel professorById() {
+        return professorService.findById(1L);
+    }
+}
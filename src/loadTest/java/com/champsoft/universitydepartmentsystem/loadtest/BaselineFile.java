@@ -0,0 +1,71 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Stored load test results (src/loadTest/baseline.json) and the regression check against them.
+// A baseline only applies to runs under the same conditions (database, concurrency, duration, data size).
+record BaselineFile(Conditions conditions, Map<String, ScenarioResult> scenarios) {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static BaselineFile of(Conditions conditions, List<ScenarioResult> results) {
+        Map<String, ScenarioResult> scenarios = new LinkedHashMap<>();
+        results.forEach(result -> scenarios.put(result.scenario(), result));
+        return new BaselineFile(conditions, scenarios);
+    }
+
+    static BaselineFile read(Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), BaselineFile.class);
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Returns one message per regression of results against this baseline: p95 or p99 latency above
+     * baseline * (1 + tolerance) + slack, or throughput below baseline * (1 - tolerance).
+     * Scenarios missing from the baseline are not compared.
+     */
+    List<String> regressions(List<ScenarioResult> results, double tolerance, double slackMillis) {
+        List<String> regressions = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            ScenarioResult baseline = scenarios.get(result.scenario());
+            if (baseline == null) {
+                continue;
+            }
+            checkLatency(regressions, result.scenario(), "p95", result.p95(), baseline.p95(), tolerance, slackMillis);
+            checkLatency(regressions, result.scenario(), "p99", result.p99(), baseline.p99(), tolerance, slackMillis);
+            double minimumThroughput = baseline.throughput() * (1 - tolerance);
+            if (result.throughput() < minimumThroughput) {
+                regressions.add(String.format("%s: throughput %.1f req/s below %.1f (baseline %.1f)",
+                        result.scenario(), result.throughput(), minimumThroughput, baseline.throughput()));
+            }
+        }
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String scenario, String percentile,
+                                     double actual, double baseline, double tolerance, double slackMillis) {
+        double limit = baseline * (1 + tolerance) + slackMillis;
+        if (actual > limit) {
+            regressions.add(String.format("%s: %s %.2f ms above %.2f ms (baseline %.2f ms)",
+                    scenario, percentile, actual, limit, baseline));
+        }
+    }
+
+    record Conditions(String runner, String database, int concurrency, long durationSeconds, int professors) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Closed-loop load: `concurrency` workers each send their next request as soon as the previous one is answered,
+// until the run duration is over. Every worker records into its own histogram (microseconds), merged at the end,
+// so recording adds no contention to the measurement.
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Target target;
+    private final int concurrency;
+
+    LoadGenerator(Target target, int concurrency) {
+        this.target = target;
+        this.concurrency = concurrency;
+    }
+
+    ScenarioResult run(Scenarios.Scenario scenario, Duration duration) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            long start = System.nanoTime();
+            long deadline = start + duration.toNanos();
+            List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> work(scenario, deadline)));
+            }
+
+            Histogram latencies = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            long errors = 0;
+            for (Future<WorkerResult> future : futures) {
+                WorkerResult result = future.get();
+                latencies.add(result.latencies());
+                errors += result.errors();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return ScenarioResult.of(scenario.name(), latencies, errors, seconds);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Load test worker failed in scenario " + scenario.name(), ex.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private WorkerResult work(Scenarios.Scenario scenario, long deadline) throws InterruptedException {
+        Histogram latencies = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long errors = 0;
+        while (System.nanoTime() < deadline) {
+            Scenarios.Action action = scenario.pick(random);
+            long begin = System.nanoTime();
+            boolean succeeded;
+            try {
+                succeeded = action.run(target, random);
+            } catch (IOException ex) {
+                succeeded = false;
+            }
+            long micros = (System.nanoTime() - begin) / 1000;
+            latencies.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (!succeeded) {
+                errors++;
+            }
+        }
+        return new WorkerResult(latencies, errors);
+    }
+
+    private record WorkerResult(Histogram latencies, long errors) {
+    }
+}
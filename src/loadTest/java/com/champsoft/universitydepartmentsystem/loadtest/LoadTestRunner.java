@@ -0,0 +1,116 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import com.champsoft.universitydepartmentsystem.UniversityDepartmentSystemApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+// Load test entry point (./gradlew loadTest): starts a local database (embedded PostgreSQL, or H2 in PostgreSQL
+// mode with -PloadTest.database=h2), runs the application against it on a random port with synthetic
+// professors seeded, and drives the real HTTP endpoints with each scenario (see Scenarios) after a warmup.
+// Prints p50/p95/p99 and throughput, writes build/reports/load-test/results.json and exits with 1 when
+// a scenario regressed beyond src/loadTest/baseline.json or failed too many requests.
+// -PloadTest.updateBaseline=true stores the results of the run as the new baseline instead.
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<ScenarioResult> results = new ArrayList<>();
+
+        try (EmbeddedPostgres postgres = settings.database().equals("postgres") ? EmbeddedPostgres.builder().start() : null;
+             ConfigurableApplicationContext context = startApplication(settings, postgres)) {
+            Target target = target(context);
+            LoadGenerator generator = new LoadGenerator(target, settings.concurrency());
+            for (String name : settings.scenarios()) {
+                Scenarios.Scenario scenario = Scenarios.named(name);
+                generator.run(scenario, settings.warmup());
+                ScenarioResult result = generator.run(scenario, settings.duration());
+                results.add(result);
+                System.out.printf("%-10s %9d req %7d err %9.1f req/s   p50 %8.2f ms   p95 %8.2f ms   p99 %8.2f ms   max %8.2f ms%n",
+                        result.scenario(), result.requests(), result.errors(), result.throughput(),
+                        result.p50(), result.p95(), result.p99(), result.max());
+            }
+        }
+
+        BaselineFile run = BaselineFile.of(settings.conditions(), results);
+        run.write(settings.reportDirectory().resolve("results.json"));
+        System.exit(check(settings, run, results) ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, EmbeddedPostgres postgres) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--app.seed.synthetic-professors=" + settings.professors(),
+                // Every request comes from this one client: the per-client limits would measure themselves
+                "--app.rate-limit.enabled=false",
+                "--logging.level.root=WARN",
+                "--spring.main.banner-mode=off"));
+        if (postgres != null) {
+            arguments.add("--app.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"));
+            arguments.add("--app.datasource.username=postgres");
+            arguments.add("--app.datasource.password=");
+        } else {
+            arguments.addAll(List.of(
+                    "--app.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                    "--app.datasource.username=sa",
+                    "--app.datasource.password=",
+                    "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.hibernate.ddl-auto=create-drop",
+                    "--spring.flyway.enabled=false"));
+        }
+        // Command-line arguments, unlike SpringApplicationBuilder.properties(), take precedence over application.properties
+        return new SpringApplicationBuilder(UniversityDepartmentSystemApplication.class).run(arguments.toArray(String[]::new));
+    }
+
+    private static Target target(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        long[] professorIds = jdbcTemplate.queryForList("select id from professor order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        long[] departmentIds = jdbcTemplate.queryForList("select id from department order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        String[] departmentCodes = jdbcTemplate.queryForList("select code from department order by id", String.class)
+                .toArray(String[]::new);
+        return new Target(URI.create("http://localhost:" + port), professorIds, departmentIds, departmentCodes);
+    }
+
+    // True when the run passes: no scenario over the error rate and none regressed against a comparable baseline
+    private static boolean check(LoadTestSettings settings, BaselineFile run, List<ScenarioResult> results) throws IOException {
+        List<String> failures = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            if (result.errorRate() > settings.maxErrorRate()) {
+                failures.add(String.format("%s: %d of %d requests failed", result.scenario(), result.errors(), result.requests()));
+            }
+        }
+
+        if (settings.updateBaseline()) {
+            run.write(settings.baselineFile());
+            System.out.println("Baseline written to " + settings.baselineFile());
+        } else if (!Files.exists(settings.baselineFile())) {
+            System.out.println("No baseline at " + settings.baselineFile() + ", latencies not compared.");
+        } else {
+            BaselineFile baseline = BaselineFile.read(settings.baselineFile());
+            if (baseline.conditions().equals(run.conditions())) {
+                failures.addAll(baseline.regressions(results, settings.tolerance(), settings.slackMillis()));
+            } else {
+                System.out.println("Baseline recorded under " + baseline.conditions() + ", this run used "
+                        + run.conditions() + ": latencies not compared.");
+            }
+        }
+
+        failures.forEach(failure -> System.out.println("FAILED " + failure));
+        return failures.isEmpty();
+    }
+}
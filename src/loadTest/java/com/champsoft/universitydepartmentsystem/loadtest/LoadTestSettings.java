@@ -0,0 +1,54 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Load test options, read from loadTest.* system properties (./gradlew loadTest -PloadTest.concurrency=32 ...).
+record LoadTestSettings(String runner,
+                        String database,
+                        int concurrency,
+                        Duration warmup,
+                        Duration duration,
+                        int professors,
+                        Set<String> scenarios,
+                        double tolerance,
+                        double slackMillis,
+                        double maxErrorRate,
+                        Path baselineFile,
+                        Path reportDirectory,
+                        boolean updateBaseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        String database = property("database", "postgres");
+        if (!database.equals("postgres") && !database.equals("h2")) {
+            throw new IllegalArgumentException("loadTest.database must be postgres or h2, was " + database);
+        }
+        return new LoadTestSettings(
+                property("runner", "local"),
+                database,
+                Integer.parseInt(property("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(property("warmupSeconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("durationSeconds", "20"))),
+                Integer.parseInt(property("professors", "10000")),
+                new LinkedHashSet<>(Arrays.asList(property("scenarios", String.join(",", Scenarios.NAMES)).split(","))),
+                Double.parseDouble(property("tolerance", "0.25")),
+                Double.parseDouble(property("slackMillis", "2")),
+                Double.parseDouble(property("maxErrorRate", "0.001")),
+                Path.of(property("baselineFile", "src/loadTest/baseline.json")),
+                Path.of(property("reportDirectory", "build/reports/load-test")),
+                Boolean.parseBoolean(property("updateBaseline", "false")));
+    }
+
+    // The settings a baseline is only comparable under, including the machine (loadTest.runner) it ran on
+    BaselineFile.Conditions conditions() {
+        return new BaselineFile.Conditions(runner, database, concurrency, duration.toSeconds(), professors);
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadTest." + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,31 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+// Outcome of one measured scenario run; latencies in milliseconds, throughput in requests per second.
+record ScenarioResult(String scenario,
+                      long requests,
+                      long errors,
+                      double throughput,
+                      double p50,
+                      double p95,
+                      double p99,
+                      double max) {
+
+    static ScenarioResult of(String scenario, Histogram latenciesMicros, long errors, double seconds) {
+        long requests = latenciesMicros.getTotalCount();
+        return new ScenarioResult(scenario, requests, errors, requests / seconds,
+                millis(latenciesMicros.getValueAtPercentile(50)),
+                millis(latenciesMicros.getValueAtPercentile(95)),
+                millis(latenciesMicros.getValueAtPercentile(99)),
+                millis(latenciesMicros.getMaxValue()));
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// The request mixes a load test can run. Each scenario picks one of its weighted actions per request;
+// an action succeeds when the application answers with a 2xx status (or 409 to a concurrent update).
+final class Scenarios {
+
+    static final List<String> NAMES = List.of("list", "get", "aggregate", "write", "mixed");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String[] TITLES = {"Lecturer", "Assistant Professor", "Associate Professor", "Full Professor"};
+
+    private Scenarios() {
+    }
+
+    static Scenario named(String name) {
+        return switch (name) {
+            // Keyset pages of professors filtered by department and sorted by name
+            case "list" -> new Scenario(name, List.of(new Weighted(1, Scenarios::listProfessors)));
+            // Single professor lookups spread over all professors
+            case "get" -> new Scenario(name, List.of(new Weighted(1, Scenarios::getProfessor)));
+            // Department aggregates: a department with its first page of professors, and the department itself
+            case "aggregate" -> new Scenario(name, List.of(
+                    new Weighted(1, Scenarios::departmentWithProfessors),
+                    new Weighted(1, Scenarios::getDepartment)));
+            // Professor creates and updates (half of them moving the professor to another department)
+            case "write" -> new Scenario(name, List.of(
+                    new Weighted(1, Scenarios::createProfessor),
+                    new Weighted(1, Scenarios::updateProfessor)));
+            // Read-mostly traffic
+            case "mixed" -> new Scenario(name, List.of(
+                    new Weighted(30, Scenarios::listProfessors),
+                    new Weighted(40, Scenarios::getProfessor),
+                    new Weighted(10, Scenarios::departmentWithProfessors),
+                    new Weighted(10, Scenarios::getDepartment),
+                    new Weighted(5, Scenarios::createProfessor),
+                    new Weighted(5, Scenarios::updateProfessor)));
+            default -> throw new IllegalArgumentException("Unknown load test scenario '" + name + "', expected one of " + NAMES);
+        };
+    }
+
+    private static boolean listProfessors(Target target, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return ok(target.get("/api/professors?limit=50&sort=lastName&departmentCode=" + target.departmentCode(random.nextInt(1 << 20))));
+    }
+
+    private static boolean getProfessor(Target target, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return ok(target.get("/api/professors/" + target.professorId(random.nextInt(1 << 20))));
+    }
+
+    private static boolean departmentWithProfessors(Target target, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return ok(target.get("/api/departments/" + target.departmentId(random.nextInt(1 << 20)) + "/professors?limit=50"));
+    }
+
+    private static boolean getDepartment(Target target, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return ok(target.get("/api/departments/" + target.departmentId(random.nextInt(1 << 20))));
+    }
+
+    private static boolean createProfessor(Target target, ThreadLocalRandom random) throws IOException, InterruptedException {
+        String email = target.nextEmail();
+        HttpResponse<String> response = target.post("/api/professors",
+                professorJson(email, random.nextInt(TITLES.length), target.departmentId(random.nextInt(1 << 20))));
+        if (!ok(response)) {
+            return false;
+        }
+        target.rememberCreated(new Target.CreatedProfessor(objectMapper.readTree(response.body()).get("id").asLong(), email));
+        return true;
+    }
+
+    private static boolean updateProfessor(Target target, ThreadLocalRandom random) throws IOException, InterruptedException {
+        Target.CreatedProfessor professor = target.createdProfessor(random.nextInt(1 << 20));
+        if (professor == null) {
+            return createProfessor(target, random);
+        }
+        HttpResponse<String> response = target.put("/api/professors/" + professor.id(),
+                professorJson(professor.email(), random.nextInt(TITLES.length), target.departmentId(random.nextInt(1 << 20))));
+        // Two workers updating the same professor at once: the optimistic lock answering 409 is correct behaviour
+        return ok(response) || response.statusCode() == 409;
+    }
+
+    private static String professorJson(String email, int title, long departmentId) {
+        return "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"email\":\"" + email + "\",\"title\":\"" + TITLES[title]
+                + "\",\"departmentId\":" + departmentId + "}";
+    }
+
+    private static boolean ok(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    record Scenario(String name, List<Weighted> actions) {
+
+        Action pick(ThreadLocalRandom random) {
+            int total = actions.stream().mapToInt(Weighted::weight).sum();
+            int draw = random.nextInt(total);
+            for (Weighted weighted : actions) {
+                draw -= weighted.weight();
+                if (draw < 0) {
+                    return weighted.action();
+                }
+            }
+            throw new IllegalStateException("No action picked");
+        }
+    }
+
+    record Weighted(int weight, Action action) {
+    }
+
+    @FunctionalInterface
+    interface Action {
+        // True when the request succeeded
+        boolean run(Target target, ThreadLocalRandom random) throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,87 @@
+package com.champsoft.universitydepartmentsystem.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// The application under test as the scenarios see it: an HTTP client on its base URI and the ids that exist.
+// Professors created by the write scenarios are remembered in a small ring so updates have something to change.
+final class Target {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int CREATED_RING_SIZE = 1024;
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final long[] professorIds;
+    private final long[] departmentIds;
+    private final String[] departmentCodes;
+    private final AtomicReferenceArray<CreatedProfessor> created = new AtomicReferenceArray<>(CREATED_RING_SIZE);
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    Target(URI baseUri, long[] professorIds, long[] departmentIds, String[] departmentCodes) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.baseUri = baseUri;
+        this.professorIds = professorIds;
+        this.departmentIds = departmentIds;
+        this.departmentCodes = departmentCodes;
+    }
+
+    HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET());
+    }
+
+    HttpResponse<String> post(String path, String json) throws IOException, InterruptedException {
+        return send(request(path).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    HttpResponse<String> put(String path, String json) throws IOException, InterruptedException {
+        return send(request(path).header("Content-Type", "application/json").PUT(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    long professorId(int index) {
+        return professorIds[index % professorIds.length];
+    }
+
+    long departmentId(int index) {
+        return departmentIds[index % departmentIds.length];
+    }
+
+    String departmentCode(int index) {
+        return departmentCodes[index % departmentCodes.length];
+    }
+
+    String nextEmail() {
+        return "load." + emailSequence.incrementAndGet() + "@load.test";
+    }
+
+    void rememberCreated(CreatedProfessor professor) {
+        created.set((int) (createdCount.getAndIncrement() % CREATED_RING_SIZE), professor);
+    }
+
+    // A professor created earlier in this run, or null if none was yet
+    CreatedProfessor createdProfessor(int index) {
+        long count = createdCount.get();
+        return count == 0 ? null : created.get((int) (index % Math.min(count, CREATED_RING_SIZE)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).header("Accept", "application/json");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    record CreatedProfessor(long id, String email) {
+    }
+}
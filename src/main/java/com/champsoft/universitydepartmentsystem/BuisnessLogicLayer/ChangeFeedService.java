@@ -0,0 +1,366 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedEntry;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedResponse;
+import com.champsoft.universitydepartmentsystem.DataLayer.ChangeEvent;
+import com.champsoft.universitydepartmentsystem.DataLayer.ChangeEventRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.ChangeFeedState;
+import com.champsoft.universitydepartmentsystem.DataLayer.ChangeFeedStateRepository;
+import com.champsoft.universitydepartmentsystem.config.ChangeFeedProperties;
+import com.champsoft.universitydepartmentsystem.utilities.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Change feed over the change_event outbox (GET /api/changes and /api/changes/stream).
+// One feed thread per node does all the work in turn, so sequencing and delivery never race:
+// - sequencing: under the lock of the change_feed_state row, committed outbox rows without a position are
+//   numbered after the last position handed out by any node. Positions therefore only become visible in order.
+// - delivery: the changes after the last delivered position are read once and handed to the waiting long polls
+//   and open streams from memory, instead of one query per consumer.
+// - purge: changes older than app.changes.retention are deleted.
+// Metrics: change.feed.sequenced, change.feed.waiting and change.feed.subscribers.
+@Service
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeFeedStateRepository stateRepository;
+    private final ChangeFeedProperties properties;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final ScheduledExecutorService feedThread =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("change-feed-"));
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final Counter sequencedCounter;
+
+    // Touched on the feed thread only
+    private final List<Waiter> waiters = new ArrayList<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    // Highest position handed to consumers, -1 until started
+    private volatile long lastDelivered = -1;
+    private volatile long purgedThrough;
+    // Rows numbered by the last sequencing run: a full batch means more may be waiting
+    private int lastSequencedCount;
+
+    public ChangeFeedService(ChangeEventRepository changeEventRepository,
+                             ChangeFeedStateRepository stateRepository,
+                             ChangeFeedProperties properties,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.changeEventRepository = changeEventRepository;
+        this.stateRepository = stateRepository;
+        this.properties = properties;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // Consumer reads may go to a replica: one that lags only returns fewer changes, the cursor never skips any
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.sequencedCounter = Counter.builder("change.feed.sequenced")
+                .description("Outbox changes given a feed position")
+                .register(meterRegistry);
+        Gauge.builder("change.feed.waiting", waiting, AtomicInteger::get)
+                .description("Long polls waiting for changes")
+                .register(meterRegistry);
+        Gauge.builder("change.feed.subscribers", subscribers, AtomicInteger::get)
+                .description("Open change streams")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = properties.getPollInterval().toMillis();
+        feedThread.scheduleWithFixedDelay(this::tick, 0, interval, TimeUnit.MILLISECONDS);
+        long purgeInterval = properties.getPurgeInterval().toMillis();
+        feedThread.scheduleWithFixedDelay(this::purge, purgeInterval, purgeInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        feedThread.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.sink().close());
+    }
+
+    // Called after a transaction appended changes: sequence and deliver them now instead of at the next poll interval
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            feedThread.execute(() -> {
+                wakeUpPending.set(false);
+                tick();
+            });
+        }
+    }
+
+    /**
+     * The changes after request.since, at most request.limit. With request.wait > 0 and nothing to return yet,
+     * the future completes as soon as changes arrive, or empty once the wait is over.
+     */
+    public CompletableFuture<ChangeFeedResponse> poll(ChangeFeedRequest request) {
+        ChangeFeedResponse now = read(request.getSince(), request.getLimit());
+        if (!now.getChanges().isEmpty() || now.isResyncRequired() || request.getWait() == 0) {
+            return CompletableFuture.completedFuture(now);
+        }
+        CompletableFuture<ChangeFeedResponse> result = new CompletableFuture<>();
+        Waiter waiter = new Waiter(request.getSince(), request.getLimit(), result);
+        feedThread.execute(() -> {
+            // Changes delivered between the read above and now would not reach the waiter any more
+            if (lastDelivered > waiter.since()) {
+                result.complete(read(waiter.since(), waiter.limit()));
+            } else if (!result.isDone()) {
+                waiters.add(waiter);
+                waiting.set(waiters.size());
+            }
+        });
+        // Dropped as soon as it is answered or times out; queued after the add above, so it cannot overtake it
+        result.whenComplete((response, ex) -> feedThread.execute(() -> {
+            if (waiters.remove(waiter)) {
+                waiting.set(waiters.size());
+            }
+        }));
+        return result.completeOnTimeout(now, request.getWait(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Streams the changes after since to sink: first those already committed, then new ones as they arrive.
+     * Throws ServiceUnavailableException when app.changes.max-subscribers streams are open.
+     * The returned handle cancels the subscription.
+     */
+    public Runnable subscribe(long since, ChangeSink sink) {
+        if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscribers.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open change streams, please retry later.", Duration.ofSeconds(30));
+        }
+        Subscription subscription = new Subscription(sink, since);
+        feedThread.execute(() -> {
+            try {
+                if (since < purgedThrough) {
+                    sink.resyncRequired();
+                }
+                // Catch up from the database, then follow the deliveries
+                ChangeFeedResponse batch;
+                do {
+                    batch = read(subscription.cursor, properties.getSequenceBatchSize());
+                    send(subscription, batch.getChanges());
+                } while (batch.isHasMore());
+                subscriptions.add(subscription);
+            } catch (IOException | RuntimeException ex) {
+                close(subscription);
+            }
+        });
+        return () -> feedThread.execute(() -> {
+            if (subscriptions.remove(subscription)) {
+                subscribers.decrementAndGet();
+            }
+        });
+    }
+
+    // Reads at most limit changes after since (one extra row tells whether there are more)
+    private ChangeFeedResponse read(long since, int limit) {
+        List<ChangeEvent> events = readTransaction.execute(status ->
+                changeEventRepository.findAfter(since, PageRequest.of(0, limit + 1)));
+        boolean hasMore = events.size() > limit;
+        List<ChangeFeedEntry> changes = events.stream().limit(limit).map(ChangeFeedService::toEntry).toList();
+        long nextCursor = changes.isEmpty() ? since : changes.get(changes.size() - 1).getPosition();
+        return new ChangeFeedResponse(changes, nextCursor, hasMore, since < purgedThrough);
+    }
+
+    private void tick() {
+        try {
+            int batchSize = properties.getSequenceBatchSize();
+            ChangeFeedState state;
+            do {
+                state = writeTransaction.execute(status -> sequence());
+                if (lastDelivered < 0) {
+                    // First run: what was sequenced before the start is read from the database by the consumers
+                    lastDelivered = state.getLastPosition() - lastSequencedCount;
+                }
+                while (lastDelivered < state.getLastPosition() && deliver(state.getLastPosition())) {
+                    // Deliver everything sequenced so far, one batch at a time
+                }
+            } while (lastSequencedCount == batchSize);
+            heartbeat();
+        } catch (RuntimeException ex) {
+            logger.warn("Change feed tick failed: {}", ex.getMessage());
+        }
+    }
+
+    // Numbers the next outbox rows without a position; returns the shared state after that
+    private ChangeFeedState sequence() {
+        ChangeFeedState state = stateRepository.lockById(ChangeFeedState.ID)
+                .orElseGet(() -> stateRepository.save(new ChangeFeedState(ChangeFeedState.ID, 0L, 0L)));
+        List<ChangeEvent> events = changeEventRepository.findUnsequenced(PageRequest.of(0, properties.getSequenceBatchSize()));
+        long position = state.getLastPosition();
+        for (ChangeEvent event : events) {
+            event.setPosition(++position);
+        }
+        state.setLastPosition(position);
+        lastSequencedCount = events.size();
+        purgedThrough = state.getPurgedThrough();
+        sequencedCounter.increment(events.size());
+        return state;
+    }
+
+    // Hands the next batch after lastDelivered to the consumers; false when there was nothing (or nobody) to deliver to
+    private boolean deliver(long lastPosition) {
+        waiters.removeIf(waiter -> waiter.result().isDone());
+        if (waiters.isEmpty() && subscriptions.isEmpty()) {
+            // Nobody listening: skip ahead, new consumers read from the database first
+            lastDelivered = lastPosition;
+            waiting.set(0);
+            return false;
+        }
+        // From the primary: the rows were numbered a moment ago and a replica may not have them yet
+        List<ChangeFeedEntry> batch = writeTransaction.execute(status -> changeEventRepository
+                        .findAfter(lastDelivered, PageRequest.of(0, properties.getSequenceBatchSize()))).stream()
+                .map(ChangeFeedService::toEntry)
+                .toList();
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        for (Waiter waiter : waiters) {
+            List<ChangeFeedEntry> changes = batch.stream()
+                    .filter(change -> change.getPosition() > waiter.since())
+                    .limit(waiter.limit())
+                    .toList();
+            if (!changes.isEmpty()) {
+                boolean hasMore = changes.size() == waiter.limit() || batch.size() == properties.getSequenceBatchSize();
+                waiter.result().complete(new ChangeFeedResponse(changes, changes.get(changes.size() - 1).getPosition(),
+                        hasMore, false));
+            }
+        }
+        waiters.removeIf(waiter -> waiter.result().isDone());
+        waiting.set(waiters.size());
+
+        for (Iterator<Subscription> it = subscriptions.iterator(); it.hasNext(); ) {
+            Subscription subscription = it.next();
+            try {
+                send(subscription, batch.stream().filter(change -> change.getPosition() > subscription.cursor).toList());
+            } catch (IOException | RuntimeException ex) {
+                it.remove();
+                close(subscription);
+            }
+        }
+        lastDelivered = batch.get(batch.size() - 1).getPosition();
+        return true;
+    }
+
+    private void heartbeat() {
+        long idleNanos = properties.getHeartbeatInterval().toNanos();
+        for (Iterator<Subscription> it = subscriptions.iterator(); it.hasNext(); ) {
+            Subscription subscription = it.next();
+            if (System.nanoTime() - subscription.lastSent < idleNanos) {
+                continue;
+            }
+            try {
+                subscription.sink().heartbeat();
+                subscription.lastSent = System.nanoTime();
+            } catch (IOException | RuntimeException ex) {
+                it.remove();
+                close(subscription);
+            }
+        }
+    }
+
+    // Deletes the changes older than the retention and records up to where consumers must resync
+    private void purge() {
+        try {
+            Instant cutoff = Instant.now().minus(properties.getRetention());
+            Integer deleted = writeTransaction.execute(status -> {
+                Long last = changeEventRepository.findLastPositionBefore(cutoff);
+                ChangeFeedState state = stateRepository.lockById(ChangeFeedState.ID).orElse(null);
+                if (last == null || state == null || last <= state.getPurgedThrough()) {
+                    return 0;
+                }
+                state.setPurgedThrough(last);
+                purgedThrough = last;
+                return changeEventRepository.deleteThrough(last);
+            });
+            if (deleted != null && deleted > 0) {
+                logger.info("Purged {} changes older than {} from the change feed.", deleted, cutoff);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Change feed purge failed: {}", ex.getMessage());
+        }
+    }
+
+    private void send(Subscription subscription, List<ChangeFeedEntry> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        subscription.sink().send(changes);
+        subscription.cursor = changes.get(changes.size() - 1).getPosition();
+        subscription.lastSent = System.nanoTime();
+    }
+
+    private void close(Subscription subscription) {
+        subscribers.decrementAndGet();
+        subscription.sink().close();
+    }
+
+    private static ChangeFeedEntry toEntry(ChangeEvent event) {
+        return new ChangeFeedEntry(event.getPosition(), event.getEntityType().name(), event.getEntityId(),
+                event.getChangeType(), event.getDepartmentId(), event.getPreviousDepartmentId(), event.getOccurredAt());
+    }
+
+    // Receiving end of a change stream; called on the feed thread
+    public interface ChangeSink {
+
+        void send(List<ChangeFeedEntry> changes) throws IOException;
+
+        void resyncRequired() throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    private record Waiter(long since, int limit, CompletableFuture<ChangeFeedResponse> result) {
+    }
+
+    // Read and written on the feed thread only
+    private static final class Subscription {
+
+        private final ChangeSink sink;
+        private long cursor;
+        private long lastSent = System.nanoTime();
+
+        Subscription(ChangeSink sink, long cursor) {
+            this.sink = sink;
+            this.cursor = cursor;
+        }
+
+        ChangeSink sink() {
+            return sink;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.ChangeEvent;
+import com.champsoft.universitydepartmentsystem.DataLayer.ChangeEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Appends every department/professor change to the change_event outbox inside the writing transaction,
+// so the change feed has a row exactly when the write committed. Publishing a change outside a transaction fails.
+// The rows of a transaction are saved together just before commit (batched inserts for a bulk import),
+// and the feed is woken up after the commit so consumers get the change without waiting for the next poll.
+@Component
+@RequiredArgsConstructor
+public class ChangeOutboxWriter {
+
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeFeedService changeFeedService;
+
+    @EventListener
+    public void onProfessorChanged(ProfessorChangedEvent event) {
+        append(new ChangeEvent(ChangeEvent.EntityType.PROFESSOR, event.getProfessorId(), event.getChangeType().name(),
+                event.getDepartmentId(), event.getPreviousDepartmentId(), Instant.now()));
+    }
+
+    @EventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        append(new ChangeEvent(ChangeEvent.EntityType.DEPARTMENT, event.getDepartmentId(), event.getChangeType().name(),
+                null, null, Instant.now()));
+    }
+
+    private void append(ChangeEvent change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Saving it on the side could lose the row (or record a write that never happened), so refuse
+            throw new IllegalStateException("A " + change.getEntityType() + " " + change.getChangeType()
+                    + " change was published outside of a transaction; writes must be @Transactional.");
+        }
+        pendingChanges().add(change);
+    }
+
+    // Outbox rows of the current transaction; registers the flushing synchronization on first use
+    @SuppressWarnings("unchecked")
+    private List<ChangeEvent> pendingChanges() {
+        List<ChangeEvent> pending = (List<ChangeEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<ChangeEvent> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                changeEventRepository.saveAll(created);
+            }
+
+            @Override
+            public void afterCommit() {
+                changeFeedService.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeOutboxWriter.this);
+            }
+        });
+        return created;
+    }
+}
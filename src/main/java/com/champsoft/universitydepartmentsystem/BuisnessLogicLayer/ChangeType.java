@@ -0,0 +1,8 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+// Kind of write carried by the domain change events.
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,83 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Keeps the department columns derived from its professors in step with professor writes:
+// the version is incremented (so the department ETags change) and professor_count gets +1 on create,
+// -1 on delete and -1/+1 on the two departments of a move.
+// Runs inside the writing transaction, so the counts commit or roll back with the professor rows.
+// The changes are collected and applied just before commit with one UPDATE per department,
+// which keeps a bulk import at a few statements per batch instead of one per professor.
+@Component
+@RequiredArgsConstructor
+public class DepartmentAggregateUpdater {
+
+    private final DepartmentRepository departmentRepository;
+
+    @EventListener
+    public void onProfessorChanged(ProfessorChangedEvent event) {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        if (event.getDepartmentId() != null) {
+            long delta = switch (event.getChangeType()) {
+                case CREATED -> 1;
+                case DELETED -> -1;
+                case UPDATED -> event.getPreviousDepartmentId() != null ? 1 : 0;
+            };
+            deltas.merge(event.getDepartmentId(), delta, Long::sum);
+        }
+        if (event.getPreviousDepartmentId() != null) {
+            deltas.merge(event.getPreviousDepartmentId(), -1L, Long::sum);
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+        Map<Long, Long> pending = pendingDeltas();
+        deltas.forEach((departmentId, delta) -> pending.merge(departmentId, delta, Long::sum));
+    }
+
+    // One UPDATE per department, in id order so two transactions moving professors between the same departments
+    // lock the rows in the same order instead of deadlocking. A department whose changes cancel out still gets
+    // its version incremented.
+    private void apply(Map<Long, Long> deltas) {
+        new TreeMap<>(deltas).forEach(departmentRepository::applyProfessorChanges);
+    }
+
+    // Professor count deltas of the current transaction by department id; registers the flushing synchronization on first use
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> pendingDeltas() {
+        Map<Long, Long> pending = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Long, Long> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!created.isEmpty()) {
+                    apply(created);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DepartmentAggregateUpdater.this);
+            }
+        });
+        return created;
+    }
+}
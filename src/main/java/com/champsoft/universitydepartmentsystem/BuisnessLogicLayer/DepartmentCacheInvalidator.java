@@ -0,0 +1,46 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Write-through invalidation of the department caches.
+// Runs after the writing transaction commits, so a concurrent read cannot re-cache the old state.
+@Component
+@RequiredArgsConstructor
+public class DepartmentCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        evict(CacheConfig.DEPARTMENTS, event.getDepartmentId());
+        evict(CacheConfig.DEPARTMENT_SUMMARIES, event.getDepartmentId());
+        clear(CacheConfig.DEPARTMENT_PAGES);
+    }
+
+    // Professor writes change the professorCount of the department(s) involved
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfessorChanged(ProfessorChangedEvent event) {
+        evict(CacheConfig.DEPARTMENTS, event.getDepartmentId());
+        evict(CacheConfig.DEPARTMENTS, event.getPreviousDepartmentId());
+        clear(CacheConfig.DEPARTMENT_PAGES);
+    }
+
+    private void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && id != null) {
+            cache.evict(id);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
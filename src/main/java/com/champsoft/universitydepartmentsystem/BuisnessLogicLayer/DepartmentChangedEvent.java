@@ -0,0 +1,12 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published by DepartmentService whenever a department is created, updated or deleted.
+@Getter
+@AllArgsConstructor
+public class DepartmentChangedEvent {
+    private final ChangeType changeType;
+    private final Long departmentId;
+}
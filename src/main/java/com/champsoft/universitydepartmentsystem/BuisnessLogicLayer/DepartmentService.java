@@ -1,102 +1,249 @@
 package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
 
 import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentCollectionVersion;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentCountView;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentPageCriteria;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentProfessorView;
 import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetResponse;
+import com.champsoft.universitydepartmentsystem.DTO.CursorPageResponse;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentPageRequest;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentProfessorsRequest;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentResponseModel;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentSummary;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentWithProfessorsResponseDTO;
 import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.config.CacheConfig;
 import com.champsoft.universitydepartmentsystem.utilities.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 // R1, R4: Service layer implementation for Department business logic, using Lombok style.
+// Uncached reads run in read-only transactions and may be served by a read replica (ReadWriteRoutingDataSource).
+// Cached reads stay on the primary: a value cached from a lagging replica would outlive the replication delay.
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true) // Latency per service method (tags: class, method)
 public class DepartmentService {
 
+    // Sort name recorded in the cursors of the nested professor list
+    private static final String PROFESSOR_SORT = "lastName";
+
     // Dependencies injected via Lombok's @RequiredArgsConstructor
     private final DepartmentRepository departmentRepository;
     private final DepartmentMapper departmentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // --- CRUD OPERATIONS ---
 
     /**
-     * R6: Retrieves all departments and maps them to a list of Response DTOs.
+     * Retrieves one keyset page of departments, optionally filtered by code and name prefix.
+     * Sorted by id (default) or name; nextCursor points at the last row of the page.
+     * Pages are cached until the next department or professor write.
      */
-    public List<DepartmentResponseModel> getAllDepartments() {
-        return departmentRepository.findAll().stream()
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENT_PAGES, key = "#request")
+    public CursorPageResponse<DepartmentResponseModel> getDepartmentsPage(DepartmentPageRequest request) {
+        boolean sortByName = "name".equals(request.getSort());
+        PageCursor after = PageCursor.decode(request.getCursor(), request.getSort());
+
+        List<DepartmentCountView> rows = departmentRepository.findPage(new DepartmentPageCriteria(
+                StringUtils.hasText(request.getCode()) ? request.getCode().trim() : null,
+                StringUtils.hasText(request.getName()) ? request.getName().trim() : null,
+                sortByName,
+                after != null ? after.getId() : null,
+                after != null ? after.getKey() : null,
+                request.getLimit()
+        ));
+
+        // The repository returns one extra row when a further page exists
+        boolean hasMore = rows.size() > request.getLimit();
+        List<DepartmentCountView> page = hasMore ? rows.subList(0, request.getLimit()) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            DepartmentCountView last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(request.getSort(), last.getId(), sortByName ? last.getName() : null).encode();
+        }
+
+        List<DepartmentResponseModel> items = page.stream()
                 .map(departmentMapper::toResponseModel)
                 .collect(Collectors.toList());
+        return new CursorPageResponse<>(items, request.getLimit(), hasMore, nextCursor);
     }
 
     /**
      * R6, R11: Retrieves a single department by ID. Throws NotFoundException if missing.
      */
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENTS, key = "#id")
     public DepartmentResponseModel findById(Long id) {
-        return departmentRepository.findById(id)
+        return departmentRepository.findWithProfessorCountById(id)
                 .map(departmentMapper::toResponseModel)
                 .orElseThrow(() -> new NotFoundException("Department", id));
     }
 
+    /**
+     * Retrieves several departments (with professor counts) by id using one grouped IN query.
+     * Items follow the request order; ids that do not exist are reported in missingIds.
+     */
+    @Transactional(readOnly = true)
+    public BatchGetResponse<DepartmentResponseModel> findByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchIds.distinct(ids);
+        Map<Long, DepartmentResponseModel> found = departmentRepository.findAllWithProfessorCountByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(DepartmentCountView::getId, departmentMapper::toResponseModel));
+        return BatchGetResponse.of(distinctIds, found);
+    }
+
+    /**
+     * Returns the id/name/code summary of a department, served from cache when possible.
+     * Used by ProfessorService to attach professors without re-reading the department row.
+     */
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENT_SUMMARIES, key = "#id")
+    public DepartmentSummary getSummary(Long id) {
+        return departmentRepository.findById(id)
+                .map(department -> new DepartmentSummary(department.getId(), department.getName(), department.getCode()))
+                .orElseThrow(() -> new NotFoundException("Department", id));
+    }
+
+    /**
+     * Strong ETag of the department collection (GET /api/departments), from one aggregate query.
+     * Changes on every department write and every professor write.
+     */
+    @Transactional(readOnly = true)
+    public String getDepartmentsETag() {
+        DepartmentCollectionVersion version = departmentRepository.findCollectionVersion();
+        return "\"departments-" + version.getDepartmentCount() + "-" + version.getMaxId() + "-" + version.getVersionSum() + "\"";
+    }
+
+    /**
+     * Strong ETag of one department and its professor list, from the version column only.
+     * Throws NotFoundException if missing.
+     */
+    @Transactional(readOnly = true)
+    public String getDepartmentETag(Long id) {
+        Long version = departmentRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Department", id));
+        return "\"department-" + id + "-" + version + "\"";
+    }
+
     /**
      * R6: Creates a new department from a Request DTO.
      */
+    @Transactional
     public DepartmentResponseModel create(DepartmentRequestModel requestModel) {
         // Map DTO to Entity (excluding ID/collection)
         Department department = departmentMapper.toEntity(requestModel);
 
         Department savedDepartment = departmentRepository.save(department);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.CREATED, savedDepartment.getId()));
         return departmentMapper.toResponseModel(savedDepartment);
     }
 
     /**
      * R6, R11: Updates an existing department. Throws NotFoundException if missing.
+     * When the request carries the version the client last read, a stale version fails with a 409 Conflict;
+     * concurrent updates are caught by the @Version check on flush either way.
      */
     @Transactional
     public DepartmentResponseModel update(Long id, DepartmentRequestModel requestModel) {
         // Find existing department or throw 404
         Department departmentToUpdate = departmentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Department", id));
+        return applyChanges(departmentToUpdate, requestModel);
+    }
 
-        // Update fields based on request DTO
-        departmentToUpdate.setName(requestModel.getName());
-        departmentToUpdate.setCode(requestModel.getCode());
-        departmentToUpdate.setYearEstablished(requestModel.getYearEstablished());
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to a department. Throws NotFoundException if missing.
+     * The patched department is validated like a PUT body; a version in the patch is checked like in update.
+     */
+    @Transactional
+    public DepartmentResponseModel patch(Long id, JsonMergePatch patch) {
+        Department department = departmentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Department", id));
+        DepartmentRequestModel patched = patch.applyTo(departmentMapper.toRequestModel(department));
+        return applyChanges(department, patched);
+    }
+
+    // Shared by PUT and PATCH. Only the changed columns are written (@DynamicUpdate);
+    // a request that changes nothing writes nothing and publishes no event.
+    private DepartmentResponseModel applyChanges(Department department, DepartmentRequestModel requestModel) {
+        if (requestModel.getVersion() != null && !requestModel.getVersion().equals(department.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Department.class, department.getId());
+        }
+        boolean changed = !Objects.equals(department.getName(), requestModel.getName())
+                || !Objects.equals(department.getCode(), requestModel.getCode())
+                || !Objects.equals(department.getYearEstablished(), requestModel.getYearEstablished());
+        if (!changed) {
+            return departmentMapper.toResponseModel(department);
+        }
 
-        // Save is implicit due to @Transactional if using the same persistent instance
-        return departmentMapper.toResponseModel(departmentToUpdate);
+        // Update fields based on request DTO
+        department.setName(requestModel.getName());
+        department.setCode(requestModel.getCode());
+        department.setYearEstablished(requestModel.getYearEstablished());
+
+        // Flush now so the response carries the incremented version
+        Department updatedDepartment = departmentRepository.saveAndFlush(department);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.UPDATED, department.getId()));
+        return departmentMapper.toResponseModel(updatedDepartment);
     }
 
     /**
-     * R6, R11: Deletes a department by ID. Throws NotFoundException if missing.
+     * R6, R11: Deletes a department by ID with a single DELETE that only matches while no professor references it.
+     * Throws NotFoundException if missing, ConflictException if it still has professors: they are never deleted
+     * along with it, the client moves them first (POST /api/departments/{id}/professors:move) or deletes them.
+     * The reason for a failed delete is looked up only on that path.
      */
+    @Transactional
     public void delete(Long id) {
-        // Using existsById for deletion is common, but findById and then delete gives better logging/error info
-        if (!departmentRepository.existsById(id)) {
-            throw new NotFoundException("Department", id);
+        if (departmentRepository.deleteIfEmpty(id) == 0) {
+            DepartmentCountView department = departmentRepository.findWithProfessorCountById(id)
+                    .orElseThrow(() -> new NotFoundException("Department", id));
+            throw new ConflictException("Department with ID " + id + " still has " + department.getProfessorCount()
+                    + " professor(s). Move them to another department or delete them first.");
         }
-        departmentRepository.deleteById(id);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.DELETED, id));
     }
 
     // --- AGGREGATED ENDPOINT LOGIC ---
 
     /**
      * R6, R7, R11: Retrieves a department and its associated professors.
-     * Uses the aggregated DTO (DepartmentWithProfessorsResponseDTO).
+     * Uses the aggregated DTO (DepartmentWithProfessorsResponseDTO), filled from one left-join query of flat rows,
+     * so no Department or Professor entity enters the persistence context. Professors are ordered by last name, then id;
+     * with a limit the list is keyset paged and nextCursor points at the last professor of the page.
      */
     @Transactional(readOnly = true)
-    public DepartmentWithProfessorsResponseDTO getDepartmentWithProfessors(Long id) {
-        // Fetch the department. Since we are in a transaction, we can access the lazy collection.
-        Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Department", id));
-        return departmentMapper.toDepartmentWithProfessorsResponseDTO(department);
-    }
-
+    public DepartmentWithProfessorsResponseDTO getDepartmentWithProfessors(Long id, DepartmentProfessorsRequest request) {
+        PageCursor after = PageCursor.decode(request.getCursor(), PROFESSOR_SORT);
+        List<DepartmentProfessorView> rows = departmentRepository.findWithProfessors(id,
+                after != null ? after.getKey() : null,
+                after != null ? after.getId() : null,
+                request.getLimit());
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Department", id);
+        }
 
+        // The repository returns one extra professor when a further page exists
+        String nextCursor = null;
+        if (request.getLimit() != null && rows.size() > request.getLimit()) {
+            rows = rows.subList(0, request.getLimit());
+            DepartmentProfessorView last = rows.get(rows.size() - 1);
+            nextCursor = new PageCursor(PROFESSOR_SORT, last.getProfessorId(), last.getProfessorLastName()).encode();
+        }
+        return departmentMapper.toDepartmentWithProfessorsResponseDTO(rows, nextCursor);
+    }
 }
 
@@ -0,0 +1,15 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published by ProfessorService whenever a professor is created, updated or deleted.
+// previousDepartmentId is set only when an update moved the professor to another department.
+@Getter
+@AllArgsConstructor
+public class ProfessorChangedEvent {
+    private final ChangeType changeType;
+    private final Long professorId;
+    private final Long departmentId;
+    private final Long previousDepartmentId;
+}
@@ -0,0 +1,70 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Periodically compares each department's stored professor_count with its professor rows and repairs any drift
+// (e.g. rows changed outside the application, or a seed insert skipped by a concurrent one).
+// Each repair locks the department row first: professor writes of that department wait, so the recount
+// sees every committed professor and no concurrent +1/-1 is lost. Repaired counts are reported in
+// department.professor.count.repaired and invalidate the department caches like any department change.
+@Component
+public class ProfessorCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfessorCountReconciler.class);
+
+    private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repairedCounter;
+
+    public ProfessorCountReconciler(DepartmentRepository departmentRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.departmentRepository = departmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repairedCounter = Counter.builder("department.professor.count.repaired")
+                .description("Department professor counts found out of step with the professor rows and recounted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Detects departments whose professor_count drifted and recounts them. Returns the ids that were repaired.
+     */
+    @Scheduled(initialDelayString = "${app.professor-count.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${app.professor-count.reconcile-interval:PT1H}")
+    public List<Long> reconcile() {
+        List<Long> repaired = new ArrayList<>();
+        for (Long departmentId : departmentRepository.findIdsWithProfessorCountDrift()) {
+            Boolean changed = transactionTemplate.execute(status -> {
+                departmentRepository.lockById(departmentId);
+                if (departmentRepository.recountProfessors(departmentId) == 0) {
+                    return false; // Caught up by a concurrent write in the meantime
+                }
+                eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.UPDATED, departmentId));
+                return true;
+            });
+            if (Boolean.TRUE.equals(changed)) {
+                repaired.add(departmentId);
+            }
+        }
+        if (!repaired.isEmpty()) {
+            repairedCounter.increment(repaired.size());
+            logger.warn("Repaired professor_count drift of {} department(s): {}.", repaired.size(), repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,115 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorDirectoryRow;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+// Streams the full professor directory to an output stream with constant memory:
+// rows come from a forward-only database cursor and are written one by one, never collected.
+@Service
+@RequiredArgsConstructor
+public class ProfessorExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,title,departmentId,departmentCode,departmentName";
+
+    private final ProfessorRepository professorRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every professor (with department code/name from the same joined query) to the given stream.
+     * The transaction stays open while the cursor is consumed.
+     */
+    @Transactional(readOnly = true)
+    public void exportDirectory(Format format, OutputStream outputStream) throws IOException {
+        try (Stream<ProfessorDirectoryRow> rows = professorRepository.streamDirectory()) {
+            if (format == Format.CSV) {
+                writeCsv(rows, outputStream);
+            } else {
+                writeNdjson(rows, outputStream);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeNdjson(Stream<ProfessorDirectoryRow> rows, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // One JSON object per line; the response stream itself is closed by the servlet container
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            rows.forEach(row -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", row.getId());
+                    generator.writeStringField("firstName", row.getFirstName());
+                    generator.writeStringField("lastName", row.getLastName());
+                    generator.writeStringField("email", row.getEmail());
+                    generator.writeStringField("title", row.getTitle());
+                    generator.writeNumberField("departmentId", row.getDepartmentId());
+                    generator.writeStringField("departmentCode", row.getDepartmentCode());
+                    generator.writeStringField("departmentName", row.getDepartmentName());
+                    generator.writeEndObject();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(Stream<ProfessorDirectoryRow> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        rows.forEach(row -> {
+            try {
+                writer.write(String.valueOf(row.getId()));
+                writer.write(',');
+                writer.write(csv(row.getFirstName()));
+                writer.write(',');
+                writer.write(csv(row.getLastName()));
+                writer.write(',');
+                writer.write(csv(row.getEmail()));
+                writer.write(',');
+                writer.write(csv(row.getTitle()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getDepartmentId()));
+                writer.write(',');
+                writer.write(csv(row.getDepartmentCode()));
+                writer.write(',');
+                writer.write(csv(row.getDepartmentName()));
+                writer.write("\r\n");
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.flush();
+    }
+
+    // RFC 4180 quoting: wrap in quotes when the value contains a delimiter, quote or line break
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
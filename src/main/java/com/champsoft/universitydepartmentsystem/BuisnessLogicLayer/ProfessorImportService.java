@@ -0,0 +1,220 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorRepository;
+import com.champsoft.universitydepartmentsystem.DTO.BulkImportResponse;
+import com.champsoft.universitydepartmentsystem.DTO.BulkImportRowResult;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorImportRow;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Bulk professor import: streams rows from a JSON array or NDJSON body, validates them,
+// resolves departments once and inserts each batch with JDBC batching in its own transaction.
+@Service
+public class ProfessorImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfessorImportService.class);
+
+    private final ProfessorRepository professorRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProfessorMapper professorMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProfessorImportService(ProfessorRepository professorRepository,
+                                  DepartmentRepository departmentRepository,
+                                  ProfessorMapper professorMapper,
+                                  Validator validator,
+                                  ObjectMapper objectMapper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.bulk-import.batch-size:500}") int batchSize) {
+        this.professorRepository = professorRepository;
+        this.departmentRepository = departmentRepository;
+        this.professorMapper = professorMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports professors from a JSON array or newline-delimited JSON stream.
+     * Rows are processed in batches of app.bulk-import.batch-size; a failing row never affects other rows,
+     * and a batch rejected by the database only fails the rows of that batch.
+     */
+    public BulkImportResponse importProfessors(InputStream body) throws IOException {
+        DepartmentDirectory departments = loadDepartments();
+        List<BulkImportRowResult> results = new ArrayList<>();
+        Set<String> emailsInRequest = new HashSet<>();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        int row = 0;
+
+        // readValues() iterates the elements of a top-level array as well as whitespace-separated values (NDJSON)
+        try (MappingIterator<ProfessorImportRow> rows = objectMapper.readerFor(ProfessorImportRow.class).readValues(body)) {
+            while (true) {
+                ProfessorImportRow importRow;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    importRow = rows.nextValue();
+                } catch (JsonProcessingException ex) {
+                    // Malformed input: keep what was imported so far and report where parsing stopped
+                    results.add(failed(row, null, List.of("Malformed JSON, import stopped at this row: " + ex.getOriginalMessage())));
+                    break;
+                }
+
+                List<String> errors = validate(importRow, departments);
+                if (errors.isEmpty() && !emailsInRequest.add(importRow.getEmail())) {
+                    errors = List.of("email: Duplicate email within this import.");
+                }
+                if (errors.isEmpty()) {
+                    batch.add(new PendingRow(row, importRow, departments.resolve(importRow)));
+                } else {
+                    results.add(failed(row, importRow.getEmail(), errors));
+                }
+                row++;
+
+                if (batch.size() == batchSize) {
+                    results.addAll(insertBatch(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(insertBatch(batch));
+        }
+
+        results.sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+        int created = (int) results.stream().filter(r -> r.getStatus() == BulkImportRowResult.Status.CREATED).count();
+        logger.info("Bulk import finished: {} rows received, {} created.", row, created);
+        return new BulkImportResponse(row, created, results.size() - created, results);
+    }
+
+    private List<BulkImportRowResult> insertBatch(List<PendingRow> batch) {
+        List<BulkImportRowResult> results = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+                // One query per batch for emails that already exist in the database
+                Set<String> existingEmails = new HashSet<>(professorRepository.findExistingEmails(
+                        batch.stream().map(pending -> pending.row().getEmail()).toList()));
+
+                List<Professor> inserted = new ArrayList<>(batch.size());
+                List<PendingRow> insertedRows = new ArrayList<>(batch.size());
+                for (PendingRow pending : batch) {
+                    if (existingEmails.contains(pending.row().getEmail())) {
+                        results.add(failed(pending.index(), pending.row().getEmail(),
+                                List.of("email: A professor with this email already exists.")));
+                        continue;
+                    }
+                    Department department = entityManager.getReference(Department.class, pending.departmentId());
+                    Professor professor = professorMapper.toEntity(pending.row(), department);
+                    entityManager.persist(professor);
+                    inserted.add(professor);
+                    insertedRows.add(pending);
+                }
+
+                // Sends the batched INSERTs; the persistence context is cleared so memory stays flat
+                entityManager.flush();
+                entityManager.clear();
+
+                for (int i = 0; i < inserted.size(); i++) {
+                    Professor professor = inserted.get(i);
+                    PendingRow pending = insertedRows.get(i);
+                    results.add(new BulkImportRowResult(pending.index(), BulkImportRowResult.Status.CREATED,
+                            professor.getId(), professor.getEmail(), null));
+                    eventPublisher.publishEvent(new ProfessorChangedEvent(
+                            ChangeType.CREATED, professor.getId(), pending.departmentId(), null));
+                }
+            });
+            return results;
+        } catch (RuntimeException ex) {
+            // e.g. a concurrent insert of the same email: the whole batch was rolled back
+            logger.warn("Bulk import batch of {} rows rejected: {}", batch.size(), ex.getMessage());
+            return batch.stream()
+                    .map(pending -> failed(pending.index(), pending.row().getEmail(),
+                            List.of("Batch rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(ex).getMessage())))
+                    .toList();
+        }
+    }
+
+    private List<String> validate(ProfessorImportRow row, DepartmentDirectory departments) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<ProfessorImportRow> violation : validator.validate(row)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (row.getDepartmentId() == null && row.getDepartmentCode() == null) {
+            errors.add("department: Either departmentId or departmentCode is required.");
+        } else if (departments.resolve(row) == null) {
+            errors.add("department: Department " + (row.getDepartmentId() != null
+                    ? "with ID " + row.getDepartmentId() : "with code " + row.getDepartmentCode()) + " not found.");
+        }
+        errors.sort(String::compareTo);
+        return errors;
+    }
+
+    // Departments are few: load id/code pairs once per import instead of one lookup per row
+    private DepartmentDirectory loadDepartments() {
+        Map<String, Long> idsByCode = new HashMap<>();
+        Set<Long> ids = new HashSet<>();
+        departmentRepository.findAll().forEach(department -> {
+            idsByCode.put(department.getCode(), department.getId());
+            ids.add(department.getId());
+        });
+        return new DepartmentDirectory(idsByCode, ids);
+    }
+
+    private static BulkImportRowResult failed(int row, String email, List<String> errors) {
+        return new BulkImportRowResult(row, BulkImportRowResult.Status.FAILED, null, email, errors);
+    }
+
+    private record PendingRow(int index, ProfessorImportRow row, Long departmentId) {
+    }
+
+    private record DepartmentDirectory(Map<String, Long> idsByCode, Set<Long> ids) {
+
+        // The department id of a row, or null if the referenced department does not exist
+        Long resolve(ProfessorImportRow row) {
+            if (row.getDepartmentId() != null) {
+                return ids.contains(row.getDepartmentId()) ? row.getDepartmentId() : null;
+            }
+            return row.getDepartmentCode() != null ? idsByCode.get(row.getDepartmentCode()) : null;
+        }
+    }
+}
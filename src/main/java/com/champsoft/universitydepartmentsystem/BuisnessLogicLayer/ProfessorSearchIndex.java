@@ -0,0 +1,281 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchResult;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+// In-memory inverted index of professor names, email local parts and titles.
+// Each field has its own sorted term dictionary, so an exact word is one lookup and a prefix is one range scan,
+// and postings are sorted by id. Matches are visited best first (tier = field and exact/prefix, then word, then id),
+// so a one-word query stops after `limit` hits instead of scoring every professor that shares a common prefix.
+// Reads are lock-free; writes are serialised so a professor is never half indexed twice.
+public class ProfessorSearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    // A whole-word match scores this much more than a prefix match
+    private static final double EXACT_MATCH_BOOST = 2.0;
+
+    // Field weights: a last name hit ranks above a first name hit, which ranks above email and title hits
+    enum Field {
+        LAST_NAME(3.0), FIRST_NAME(2.0), EMAIL(1.5), TITLE(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record Tier(Field field, boolean exact) {
+        double score() {
+            return exact ? field.weight * EXACT_MATCH_BOOST : field.weight;
+        }
+    }
+
+    // Field/match combinations from the best to the worst score
+    private static final List<Tier> TIERS = List.of(
+            new Tier(Field.LAST_NAME, true),
+            new Tier(Field.FIRST_NAME, true),
+            new Tier(Field.EMAIL, true),
+            new Tier(Field.LAST_NAME, false),
+            new Tier(Field.TITLE, true),
+            new Tier(Field.FIRST_NAME, false),
+            new Tier(Field.EMAIL, false),
+            new Tier(Field.TITLE, false));
+
+    private final Map<Field, ConcurrentSkipListMap<String, Posting>> dictionaries = new EnumMap<>(Field.class);
+    private final ConcurrentHashMap<Long, Indexed> documents = new ConcurrentHashMap<>();
+
+    public record Document(Long id, String firstName, String lastName, String email, String title, Long departmentId) {
+    }
+
+    // The document with its words and the field of each word, kept to unindex it and to score it against further query words
+    private record Indexed(Document document, String[] words, Field[] fields) {
+
+        // Best score of one query word in this document, 0 if no word of any field starts with it
+        double score(String token) {
+            double best = 0;
+            for (int i = 0; i < words.length; i++) {
+                if (words[i].startsWith(token)) {
+                    double weight = fields[i].weight;
+                    best = Math.max(best, words[i].length() == token.length() ? weight * EXACT_MATCH_BOOST : weight);
+                }
+            }
+            return best;
+        }
+    }
+
+    // Ids of the professors containing a word in one field. Size is tracked because ConcurrentSkipListSet.size() is O(n).
+    private static final class Posting {
+        private final ConcurrentSkipListSet<Long> ids = new ConcurrentSkipListSet<>();
+        private volatile int size;
+    }
+
+    private record Hit(Indexed indexed, double score, int order) {
+    }
+
+    public ProfessorSearchIndex() {
+        for (Field field : Field.values()) {
+            dictionaries.put(field, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Adds the professor, replacing the previously indexed version of the same id.
+     */
+    public synchronized void put(Document document) {
+        remove(document.id());
+        List<String> words = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        addWords(words, fields, Field.LAST_NAME, document.lastName());
+        addWords(words, fields, Field.FIRST_NAME, document.firstName());
+        addWords(words, fields, Field.EMAIL, emailLocalPart(document.email()));
+        addWords(words, fields, Field.TITLE, document.title());
+
+        documents.put(document.id(), new Indexed(document, words.toArray(String[]::new), fields.toArray(Field[]::new)));
+        for (int i = 0; i < words.size(); i++) {
+            Posting posting = dictionaries.get(fields.get(i)).computeIfAbsent(words.get(i), key -> new Posting());
+            if (posting.ids.add(document.id())) {
+                posting.size++;
+            }
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Indexed previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int i = 0; i < previous.words().length; i++) {
+            dictionaries.get(previous.fields()[i]).computeIfPresent(previous.words()[i], (key, posting) -> {
+                if (posting.ids.remove(id)) {
+                    posting.size--;
+                }
+                return posting.size == 0 ? null : posting;
+            });
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Returns up to limit professors matching every word of the query as a whole word or a word prefix, best first.
+     * The score is the sum over the query words of the best field match; ties keep the visiting order
+     * of the most selective word (tier, then word, then id).
+     */
+    public List<ProfessorSearchResult> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        // Longer words are usually more selective: estimating them first gives a tight cutoff for the rest
+        tokens.sort(Comparator.comparingInt(String::length).reversed());
+        String primary = tokens.get(0);
+        if (tokens.size() > 1) {
+            int fewest = estimateMatches(primary, Integer.MAX_VALUE);
+            for (String token : tokens.subList(1, tokens.size())) {
+                int matches = estimateMatches(token, fewest);
+                if (matches < fewest) {
+                    fewest = matches;
+                    primary = token;
+                }
+            }
+            if (fewest == 0) {
+                return List.of();
+            }
+        }
+        List<String> others = new ArrayList<>(tokens);
+        others.remove(primary);
+
+        // Bounded heap: the worst of the current top results sits at the head
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).reversed().thenComparingInt(Hit::order);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+        Set<Long> seen = new HashSet<>();
+        int order = 0;
+
+        for (Tier tier : TIERS) {
+            for (Posting posting : postings(tier, primary)) {
+                for (Long id : posting.ids) {
+                    if (!seen.add(id)) {
+                        continue; // Already visited in a better tier, which holds its best score for this word
+                    }
+                    Indexed indexed = documents.get(id);
+                    if (indexed == null) {
+                        continue; // Removed while searching
+                    }
+                    double score = tier.score();
+                    for (String other : others) {
+                        double otherScore = indexed.score(other);
+                        if (otherScore == 0) {
+                            score = -1;
+                            break;
+                        }
+                        score += otherScore;
+                    }
+                    if (score < 0) {
+                        continue;
+                    }
+                    // Visiting order breaks ties, so a full heap only accepts a strictly better score
+                    if (top.size() == limit && score <= top.peek().score()) {
+                        continue;
+                    }
+                    top.add(new Hit(indexed, score, order++));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                    // One word: visiting order is already ranking order, so the first hits are the answer
+                    if (others.isEmpty() && top.size() == limit) {
+                        return toResults(top, ranking);
+                    }
+                }
+            }
+        }
+        return toResults(top, ranking);
+    }
+
+    // Postings of one tier for a query word, in word order: the exact word, or the longer words it prefixes
+    private Iterable<Posting> postings(Tier tier, String token) {
+        ConcurrentSkipListMap<String, Posting> dictionary = dictionaries.get(tier.field());
+        if (tier.exact()) {
+            Posting posting = dictionary.get(token);
+            return posting != null ? List.of(posting) : List.of();
+        }
+        return dictionary.subMap(token, false, token + Character.MAX_VALUE, false).values();
+    }
+
+    // Upper bound of the professors matching a word, counted only up to the cutoff
+    private int estimateMatches(String token, int cutoff) {
+        int total = 0;
+        for (Field field : Field.values()) {
+            for (Posting posting : dictionaries.get(field).subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                total += posting.size;
+                if (total >= cutoff) {
+                    return total;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static List<ProfessorSearchResult> toResults(PriorityQueue<Hit> top, Comparator<Hit> ranking) {
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(ranking);
+        return hits.stream().map(ProfessorSearchIndex::toResult).toList();
+    }
+
+    private static void addWords(List<String> words, List<Field> fields, Field field, String text) {
+        for (String word : new LinkedHashSet<>(tokenize(text))) {
+            words.add(word);
+            fields.add(field);
+        }
+    }
+
+    // Lower-cased, accent-free words, so "José" is found by "jose"
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Only the part before the @: the domain is shared by everyone and would match every professor
+    private static String emailLocalPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return at >= 0 ? email.substring(0, at) : email;
+    }
+
+    private static ProfessorSearchResult toResult(Hit hit) {
+        Document document = hit.indexed().document();
+        return new ProfessorSearchResult(document.id(), document.firstName(), document.lastName(), document.email(),
+                document.title(), document.departmentId(), hit.score());
+    }
+}
@@ -0,0 +1,190 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorDirectoryRow;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorRepository;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchResult;
+import com.champsoft.universitydepartmentsystem.utilities.ServiceUnavailableException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+// Professor search served from the in-memory ProfessorSearchIndex.
+// The index is built from the database once the application is ready and kept in sync with ProfessorChangedEvent:
+// the professors changed by a transaction are re-read with one IN query after it commits, on a single background
+// thread. Refreshing in afterCommit itself would take a second connection while the writer still holds its own,
+// and enough concurrent writers would exhaust the pool waiting on each other.
+@Service
+@Timed(value = "service.method", histogram = true) // Latency per service method (tags: class, method)
+public class ProfessorSearchService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfessorSearchService.class);
+
+    private final ProfessorRepository professorRepository;
+    private final TransactionTemplate readTransaction;
+
+    private volatile ProfessorSearchIndex index = new ProfessorSearchIndex();
+    private volatile boolean ready;
+
+    // Ids written while a rebuild is running; refreshed again once the new index is in place
+    private volatile Set<Long> changedDuringRebuild;
+
+    // Committed changes waiting for the refresher thread; one drain re-reads all of them
+    private final Set<Long> queuedProfessorIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ExecutorService refresher =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("search-index-refresh-"));
+
+    public ProfessorSearchService(ProfessorRepository professorRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.professorRepository = professorRepository;
+        // Not read-only on purpose: read-only transactions may go to a replica that has not caught up
+        // with the commit being indexed, and the index would keep the stale row
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        // Always a transaction of its own, whatever the caller is in
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("professor.search.index.size", this, service -> service.index.size())
+                .description("Professors in the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Searches professors by first/last name, email and title. Every query word must match a whole word or a word prefix;
+     * results are ranked by field (last name first) and exact-word matches. Throws 503 while the index is being built.
+     */
+    public List<ProfessorSearchResult> search(ProfessorSearchRequest request) {
+        if (!ready) {
+            throw new ServiceUnavailableException("The search index is being built, please retry shortly.", Duration.ofSeconds(5));
+        }
+        return index.search(request.getQ(), request.getLimit());
+    }
+
+    // Builds a fresh index from the whole directory and swaps it in
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        ProfessorSearchIndex fresh = new ProfessorSearchIndex();
+        readTransaction.executeWithoutResult(status -> {
+            try (Stream<ProfessorDirectoryRow> rows = professorRepository.streamDirectory()) {
+                rows.forEach(row -> fresh.put(toDocument(row)));
+            }
+        });
+        index = fresh;
+        Set<Long> changed = changedDuringRebuild;
+        changedDuringRebuild = null;
+        if (!changed.isEmpty()) {
+            refresh(changed);
+        }
+        ready = true;
+        logger.info("Professor search index built: {} professors in {} ms.",
+                fresh.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    @EventListener
+    public void onProfessorChanged(ProfessorChangedEvent event) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(event.getProfessorId());
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(List.of(event.getProfessorId()));
+            return;
+        }
+        pendingProfessorIds().add(event.getProfessorId());
+    }
+
+    // Professor ids changed in the current transaction; registers the refreshing synchronization on first use
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingProfessorIds() {
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Set<Long> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshLater(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ProfessorSearchService.this);
+            }
+        });
+        return created;
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshLater(Collection<Long> ids) {
+        queuedProfessorIds.addAll(ids);
+        if (drainScheduled.compareAndSet(false, true)) {
+            refresher.execute(this::drainQueue);
+        }
+    }
+
+    private void drainQueue() {
+        // Reset first: ids queued from now on either make it into this drain or schedule the next one
+        drainScheduled.set(false);
+        List<Long> ids = new ArrayList<>(queuedProfessorIds);
+        queuedProfessorIds.removeAll(ids);
+        if (!ids.isEmpty()) {
+            refresh(ids);
+        }
+    }
+
+    // Re-reads the given professors; ids that no longer exist are dropped from the index
+    private void refresh(Collection<Long> ids) {
+        try {
+            List<ProfessorDirectoryRow> rows = readTransaction.execute(status ->
+                    new ArrayList<>(professorRepository.findDirectoryRowsByIdIn(ids)));
+            ProfessorSearchIndex current = index;
+            Set<Long> missing = new HashSet<>(ids);
+            for (ProfessorDirectoryRow row : rows) {
+                current.put(toDocument(row));
+                missing.remove(row.getId());
+            }
+            missing.forEach(current::remove);
+        } catch (RuntimeException ex) {
+            // The write itself has committed; a stale search entry must not turn it into an error
+            logger.warn("Could not refresh {} professors in the search index: {}", ids.size(), ex.getMessage());
+        }
+    }
+
+    private static ProfessorSearchIndex.Document toDocument(ProfessorDirectoryRow row) {
+        return new ProfessorSearchIndex.Document(row.getId(), row.getFirstName(), row.getLastName(), row.getEmail(),
+                row.getTitle(), row.getDepartmentId());
+    }
+}
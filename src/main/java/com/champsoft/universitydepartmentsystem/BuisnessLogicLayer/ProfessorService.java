@@ -3,84 +3,265 @@ package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
 import com.champsoft.universitydepartmentsystem.DataLayer.Department;
 import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
 import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorDepartmentRow;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorMoveCriteria;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorPageCriteria;
 import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorRepository;
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetResponse;
+import com.champsoft.universitydepartmentsystem.DTO.CompactProfessor;
+import com.champsoft.universitydepartmentsystem.DTO.CompactProfessorPage;
+import com.champsoft.universitydepartmentsystem.DTO.CursorPageResponse;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentSummary;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorDeleteResponse;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorMoveRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorMoveResponse;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorPageRequest;
 import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
 import com.champsoft.universitydepartmentsystem.DTO.ProfessorResponseModel;
 import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
 import com.champsoft.universitydepartmentsystem.utilities.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+// Reads run in read-only transactions and may be served by a read replica (ReadWriteRoutingDataSource).
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true) // Latency per service method (tags: class, method)
 public class ProfessorService {
 
+    // Professors per UPDATE statement of a bulk move (keeps the IN list well below driver parameter limits)
+    private static final int MOVE_BATCH_SIZE = 1000;
+
     private final ProfessorRepository professorRepository;
     private final DepartmentRepository departmentRepository;
     private final ProfessorMapper professorMapper;
+    private final DepartmentService departmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // Get all professors
-    public List<ProfessorResponseModel> findAll() {
-        return professorRepository.findAll().stream()
+    // Get one keyset page of professors, optionally filtered by department code, title and last name prefix
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProfessorResponseModel> findPage(ProfessorPageRequest request) {
+        ProfessorPage page = loadPage(request);
+        List<ProfessorResponseModel> items = page.rows().stream()
                 .map(professorMapper::toResponseModel)
                 .collect(Collectors.toList());
+        return new CursorPageResponse<>(items, request.getLimit(), page.hasMore(), page.nextCursor());
+    }
+
+    // The same page in the compact shape: each department is emitted once in a dictionary keyed by id
+    @Transactional(readOnly = true)
+    public CompactProfessorPage findCompactPage(ProfessorPageRequest request) {
+        ProfessorPage page = loadPage(request);
+        List<CompactProfessor> items = new ArrayList<>(page.rows().size());
+        Map<Long, DepartmentSummary> departments = new LinkedHashMap<>();
+        for (Professor professor : page.rows()) {
+            items.add(professorMapper.toCompactProfessor(professor));
+            departments.computeIfAbsent(professor.getDepartment().getId(),
+                    id -> professorMapper.toDepartmentSummary(professor.getDepartment()));
+        }
+        return new CompactProfessorPage(items, departments, request.getLimit(), page.hasMore(), page.nextCursor());
+    }
+
+    private ProfessorPage loadPage(ProfessorPageRequest request) {
+        boolean sortByLastName = "lastName".equals(request.getSort());
+        PageCursor after = PageCursor.decode(request.getCursor(), request.getSort());
+
+        List<Professor> rows = professorRepository.findPage(new ProfessorPageCriteria(
+                textOrNull(request.getDepartmentCode()),
+                textOrNull(request.getTitle()),
+                textOrNull(request.getName()),
+                sortByLastName,
+                after != null ? after.getId() : null,
+                after != null ? after.getKey() : null,
+                request.getLimit()
+        ));
+
+        // The repository returns one extra row when a further page exists
+        boolean hasMore = rows.size() > request.getLimit();
+        List<Professor> page = hasMore ? rows.subList(0, request.getLimit()) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Professor last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(request.getSort(), last.getId(), sortByLastName ? last.getLastName() : null).encode();
+        }
+        return new ProfessorPage(page, hasMore, nextCursor);
+    }
+
+    private record ProfessorPage(List<Professor> rows, boolean hasMore, String nextCursor) {
     }
 
     // Get professor by ID
+    @Transactional(readOnly = true)
     public ProfessorResponseModel findById(Long id) {
-        Professor professor = professorRepository.findById(id)
+        Professor professor = professorRepository.findWithDepartmentById(id)
                 .orElseThrow(() -> new NotFoundException("Professor", id));
         return professorMapper.toResponseModel(professor);
     }
 
+    // Get several professors by id with one IN query; request order is kept and unknown ids are reported as missing
+    @Transactional(readOnly = true)
+    public BatchGetResponse<ProfessorResponseModel> findByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchIds.distinct(ids);
+        Map<Long, ProfessorResponseModel> found = professorRepository.findAllWithDepartmentByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(Professor::getId, professorMapper::toResponseModel));
+        return BatchGetResponse.of(distinctIds, found);
+    }
+
     // Create a new professor
     @Transactional
     public ProfessorResponseModel create(ProfessorRequestModel requestModel) {
-        // 1️⃣ Fetch the Department entity using the ID from the request model
-        Department department = departmentRepository.findById(requestModel.getDepartmentId())
-                .orElseThrow(() -> new NotFoundException("Department", requestModel.getDepartmentId()));
+        // 1️⃣ Resolve the department (cached summary, 404 if missing) and attach it by reference, without a select
+        DepartmentSummary department = departmentService.getSummary(requestModel.getDepartmentId());
+        Department departmentReference = departmentRepository.getReferenceById(department.getId());
 
         // 2️⃣ Convert DTO → Entity using the updated mapper
-        Professor professor = professorMapper.toEntity(requestModel, department);
+        Professor professor = professorMapper.toEntity(requestModel, departmentReference);
 
         // 3️⃣ Save the professor and return a response DTO
         Professor savedProfessor = professorRepository.save(professor);
-        return professorMapper.toResponseModel(savedProfessor);
+        eventPublisher.publishEvent(new ProfessorChangedEvent(ChangeType.CREATED, savedProfessor.getId(), department.getId(), null));
+        return professorMapper.toResponseModel(savedProfessor, department);
     }
 
     // Update an existing professor
     @Transactional
     public ProfessorResponseModel update(Long id, ProfessorRequestModel requestModel) {
-        // 1️⃣ Check if professor exists
-        Professor existingProfessor = professorRepository.findById(id)
+        // 1️⃣ Check if professor exists (its current department joined in the same select)
+        Professor existingProfessor = professorRepository.findWithDepartmentById(id)
+                .orElseThrow(() -> new NotFoundException("Professor", id));
+        return applyChanges(existingProfessor, requestModel);
+    }
+
+    // Apply a JSON Merge Patch (RFC 7396) to a professor; the patched professor is validated like a PUT body
+    // and a version in the patch is checked like in update
+    @Transactional
+    public ProfessorResponseModel patch(Long id, JsonMergePatch patch) {
+        Professor professor = professorRepository.findWithDepartmentById(id)
                 .orElseThrow(() -> new NotFoundException("Professor", id));
+        ProfessorRequestModel patched = patch.applyTo(professorMapper.toRequestModel(professor));
+        return applyChanges(professor, patched);
+    }
+
+    // Shared by PUT and PATCH. The professor is managed, so dirty checking writes only the changed columns
+    // (@DynamicUpdate) at commit; a request that changes nothing writes nothing and publishes no event.
+    private ProfessorResponseModel applyChanges(Professor professor, ProfessorRequestModel requestModel) {
+        if (requestModel.getVersion() != null && !requestModel.getVersion().equals(professor.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Professor.class, professor.getId());
+        }
+        Department currentDepartment = professor.getDepartment();
+        boolean moved = !currentDepartment.getId().equals(requestModel.getDepartmentId());
 
-        // 2️⃣ Fetch the Department entity
-        Department department = departmentRepository.findById(requestModel.getDepartmentId())
-                .orElseThrow(() -> new NotFoundException("Department", requestModel.getDepartmentId()));
+        // 2️⃣ Resolve the target department (cached summary, 404 if missing) only when it changes
+        DepartmentSummary department = moved
+                ? departmentService.getSummary(requestModel.getDepartmentId())
+                : professorMapper.toDepartmentSummary(currentDepartment);
+
+        boolean changed = moved
+                || !Objects.equals(professor.getFirstName(), requestModel.getFirstName())
+                || !Objects.equals(professor.getLastName(), requestModel.getLastName())
+                || !Objects.equals(professor.getEmail(), requestModel.getEmail())
+                || !Objects.equals(professor.getTitle(), requestModel.getTitle());
+        if (!changed) {
+            return professorMapper.toResponseModel(professor, department);
+        }
 
         // 3️⃣ Update the professor fields
-        existingProfessor.setFirstName(requestModel.getFirstName());
-        existingProfessor.setLastName(requestModel.getLastName());
-        existingProfessor.setEmail(requestModel.getEmail());
-        existingProfessor.setTitle(requestModel.getTitle());
-        existingProfessor.setDepartment(department);
-
-        // 4️⃣ Save and return
-        Professor updatedProfessor = professorRepository.save(existingProfessor);
-        return professorMapper.toResponseModel(updatedProfessor);
+        professor.setFirstName(requestModel.getFirstName());
+        professor.setLastName(requestModel.getLastName());
+        professor.setEmail(requestModel.getEmail());
+        professor.setTitle(requestModel.getTitle());
+        if (moved) {
+            professor.setDepartment(departmentRepository.getReferenceById(department.getId()));
+        }
+
+        // Flush now so the response carries the incremented version
+        Professor updatedProfessor = professorRepository.saveAndFlush(professor);
+        Long movedFrom = moved ? currentDepartment.getId() : null;
+        eventPublisher.publishEvent(new ProfessorChangedEvent(ChangeType.UPDATED, professor.getId(), department.getId(), movedFrom));
+        return professorMapper.toResponseModel(updatedProfessor, department);
+    }
+
+    /**
+     * Moves the professors selected by request to a department with set-based UPDATEs (one per MOVE_BATCH_SIZE
+     * professors) instead of one read and write per professor. Throws NotFoundException if the department is missing.
+     * The selected rows are locked first, so the per-professor change events (department counts and versions,
+     * caches, search index and change feed) describe exactly the rows the UPDATE changed.
+     */
+    @Transactional
+    public ProfessorMoveResponse moveToDepartment(Long departmentId, ProfessorMoveRequest request) {
+        DepartmentSummary department = departmentService.getSummary(departmentId);
+        List<Long> ids = request.getIds() != null && !request.getIds().isEmpty() ? BatchIds.distinct(request.getIds()) : null;
+        List<ProfessorDepartmentRow> rows = professorRepository.lockForMove(new ProfessorMoveCriteria(
+                department.getId(), ids, textOrNull(request.getTitle()), request.getFromDepartmentId()));
+        if (rows.isEmpty()) {
+            return new ProfessorMoveResponse(department.getId(), 0);
+        }
+
+        Department target = departmentRepository.getReferenceById(department.getId());
+        List<Long> movedIds = rows.stream().map(ProfessorDepartmentRow::professorId).toList();
+        int moved = 0;
+        for (int from = 0; from < movedIds.size(); from += MOVE_BATCH_SIZE) {
+            moved += professorRepository.moveToDepartment(
+                    movedIds.subList(from, Math.min(from + MOVE_BATCH_SIZE, movedIds.size())), target);
+        }
+        for (ProfessorDepartmentRow row : rows) {
+            eventPublisher.publishEvent(new ProfessorChangedEvent(
+                    ChangeType.UPDATED, row.professorId(), department.getId(), row.departmentId()));
+        }
+        return new ProfessorMoveResponse(department.getId(), moved);
     }
 
-    // Delete a professor
+    // Delete a professor with a direct DELETE by id; the entity (and its department) is never loaded.
+    // Only the department id is read first, as the count and change events need it.
     @Transactional
     public void delete(Long id) {
-        // Check if professor exists before deleting
-        Professor professor = professorRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Professor", id));
-        professorRepository.delete(professor);
+        if (deleteRows(List.of(id)).isEmpty()) {
+            throw new NotFoundException("Professor", id);
+        }
+    }
+
+    /**
+     * Deletes the given professors (max BatchGetRequest.MAX_IDS distinct ids) with one set-based DELETE.
+     * Ids that do not exist are reported in missingIds rather than failing the request, so a retry is harmless.
+     */
+    @Transactional
+    public ProfessorDeleteResponse deleteByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchIds.distinct(ids);
+        Set<Long> deletedIds = deleteRows(distinctIds).stream()
+                .map(ProfessorDepartmentRow::professorId)
+                .collect(Collectors.toSet());
+        List<Long> missingIds = distinctIds.stream().filter(id -> !deletedIds.contains(id)).toList();
+        return new ProfessorDeleteResponse(deletedIds.size(), missingIds);
+    }
+
+    // Locks the rows to learn their departments, deletes them and publishes one DELETED event per row.
+    // Returns the deleted rows; empty when none of the ids exist.
+    private List<ProfessorDepartmentRow> deleteRows(List<Long> ids) {
+        List<ProfessorDepartmentRow> rows = professorRepository.lockDepartmentRows(ids);
+        if (rows.isEmpty() || professorRepository.deleteByIds(ids) == 0) {
+            return List.of();
+        }
+        for (ProfessorDepartmentRow row : rows) {
+            eventPublisher.publishEvent(new ProfessorChangedEvent(ChangeType.DELETED, row.professorId(), row.departmentId(), null));
+        }
+        return rows;
+    }
+
+    private static String textOrNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
     }
 }
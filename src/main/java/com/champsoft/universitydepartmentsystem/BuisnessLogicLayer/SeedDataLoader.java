@@ -0,0 +1,234 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.SeedDataRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.SeedDataRepository.DepartmentSeedRow;
+import com.champsoft.universitydepartmentsystem.DataLayer.SeedDataRepository.ProfessorSeedRow;
+import com.champsoft.universitydepartmentsystem.config.SeedProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Loads the seed departments and professors from CSV resources at startup, plus optional synthetic professors
+// for load tests. Idempotent: only rows whose code/email is not in the database yet are inserted,
+// so a restart costs one lookup per batch and inserts nothing. Rows go through SeedDataRepository's JDBC batches,
+// one transaction per batch of app.seed.batch-size rows.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(SeedProperties.class)
+public class SeedDataLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeedDataLoader.class);
+
+    // Synthetic professors cycle through these, so generated data has realistic name and title spreads
+    private static final String[] FIRST_NAMES = {"Alex", "Maria", "John", "Priya", "Wei", "Fatima", "Lucas", "Emma",
+            "Omar", "Sofia", "Liam", "Chloe", "Noah", "Amara", "Ethan", "Yuki"};
+    private static final String[] LAST_NAMES = {"Smith", "Nguyen", "Garcia", "Kowalski", "Tremblay", "Okafor", "Rossi",
+            "Muller", "Haddad", "Kim", "Silva", "Dubois", "Patel", "Cohen", "Ivanov", "Larsen", "Moreau", "Tanaka",
+            "Roy", "Brown"};
+    private static final String[] TITLES = {"Lecturer", "Assistant Professor", "Associate Professor", "Full Professor"};
+
+    private final SeedProperties properties;
+    private final SeedDataRepository seedDataRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProfessorRepository professorRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SeedDataLoader(SeedProperties properties,
+                          SeedDataRepository seedDataRepository,
+                          DepartmentRepository departmentRepository,
+                          ProfessorRepository professorRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.seedDataRepository = seedDataRepository;
+        this.departmentRepository = departmentRepository;
+        this.professorRepository = professorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+
+        int departments = seedDepartments();
+        Map<String, Long> departmentIds = departmentIdsByCode();
+        int professors = seedProfessors(departmentIds);
+        int synthetic = seedSyntheticProfessors(departmentIds);
+
+        logger.info("Seed data loaded in {} ms: {} departments, {} professors and {} synthetic professors inserted.",
+                (System.nanoTime() - start) / 1_000_000, departments, professors, synthetic);
+    }
+
+    // Departments are few: one read of the existing codes and a single batch
+    private int seedDepartments() throws IOException {
+        Set<String> existingCodes = new HashSet<>(departmentIdsByCode().keySet());
+        List<DepartmentSeedRow> missing = new ArrayList<>();
+        readCsv(properties.getDepartments(), row -> {
+            if (existingCodes.add(row.get("code"))) {
+                String year = row.get("yearEstablished");
+                missing.add(new DepartmentSeedRow(row.get("name"), row.get("code"),
+                        year == null || year.isEmpty() ? null : Integer.valueOf(year)));
+            }
+        });
+        if (!missing.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> seedDataRepository.insertDepartments(missing));
+        }
+        return missing.size();
+    }
+
+    private int seedProfessors(Map<String, Long> departmentIds) throws IOException {
+        BatchInserter inserter = new BatchInserter();
+        readCsv(properties.getProfessors(), row -> {
+            Long departmentId = departmentIds.get(row.get("departmentCode"));
+            if (departmentId == null) {
+                throw new IllegalStateException("Seed professor " + row.get("email")
+                        + " references unknown department " + row.get("departmentCode"));
+            }
+            inserter.add(new ProfessorSeedRow(row.get("firstName"), row.get("lastName"), row.get("email"),
+                    row.get("title"), departmentId));
+        });
+        return inserter.finish();
+    }
+
+    // Generated rows are deterministic (professor n always gets the same email), so raising the size later
+    // only inserts the additional professors
+    private int seedSyntheticProfessors(Map<String, Long> departmentIds) {
+        int count = properties.getSyntheticProfessors();
+        if (count == 0) {
+            return 0;
+        }
+        if (departmentIds.isEmpty()) {
+            throw new IllegalStateException("Synthetic professors need at least one department.");
+        }
+        List<Long> ids = departmentIds.values().stream().sorted().toList();
+        BatchInserter inserter = new BatchInserter();
+        for (int n = 0; n < count; n++) {
+            inserter.add(new ProfessorSeedRow(
+                    FIRST_NAMES[(n / LAST_NAMES.length) % FIRST_NAMES.length],
+                    LAST_NAMES[n % LAST_NAMES.length],
+                    "synthetic." + n + "@load.test",
+                    TITLES[n % TITLES.length],
+                    ids.get(n % ids.size())));
+        }
+        return inserter.finish();
+    }
+
+    private Map<String, Long> departmentIdsByCode() {
+        Map<String, Long> idsByCode = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            idsByCode.put(department.getCode(), department.getId());
+        }
+        return idsByCode;
+    }
+
+    // Collects professor rows and inserts each full batch, skipping emails that already exist
+    private class BatchInserter {
+
+        private final List<ProfessorSeedRow> batch = new ArrayList<>(properties.getBatchSize());
+        private int inserted;
+
+        void add(ProfessorSeedRow row) {
+            batch.add(row);
+            if (batch.size() == properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        int finish() {
+            if (!batch.isEmpty()) {
+                flush();
+            }
+            return inserted;
+        }
+
+        private void flush() {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<String> existingEmails = new HashSet<>(professorRepository.findExistingEmails(
+                        batch.stream().map(ProfessorSeedRow::email).toList()));
+                List<ProfessorSeedRow> missing = batch.stream()
+                        .filter(row -> !existingEmails.contains(row.email()))
+                        .toList();
+                if (!missing.isEmpty()) {
+                    inserted += seedDataRepository.insertProfessors(missing);
+                }
+            });
+            batch.clear();
+        }
+    }
+
+    // Minimal CSV reader for the seed files: header line, one record per line, optional "quoted" fields
+    private static void readCsv(Resource resource, Consumer<Map<String, String>> consumer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return;
+            }
+            List<String> header = parseCsvLine(headerLine);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> values = parseCsvLine(line);
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    row.put(header.get(i), i < values.size() ? values.get(i) : null);
+                }
+                consumer.accept(row);
+            }
+        }
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+}
@@ -0,0 +1,27 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// BatchGetRequest DTO
+// Purpose: Body of the batch-get endpoints; the ids are resolved with one IN query.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one id is required.")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids can be requested at once.")
+    private List<@NotNull(message = "Ids cannot be null.") Long> ids;
+}
@@ -0,0 +1,38 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// BatchGetResponse DTO
+// Purpose: Result of a batch-get. Items follow the order of the requested ids (duplicates returned once);
+// ids that do not exist are listed in missingIds instead of failing the whole request.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetResponse<T> {
+    private List<T> items;
+    private List<Long> missingIds;
+
+    // Arranges the found items in request order and collects the ids that were not found
+    public static <T> BatchGetResponse<T> of(List<Long> requestedIds, Map<Long, T> foundById) {
+        List<T> items = new ArrayList<>(foundById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T item = foundById.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchGetResponse<>(items, missingIds);
+    }
+}
@@ -0,0 +1,22 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// BulkImportResponse DTO
+// Purpose: Per-row report returned by POST /api/professors/bulk.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+    private int received;
+    private int created;
+    private int failed;
+    private List<BulkImportRowResult> results;
+}
@@ -0,0 +1,26 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// BulkImportRowResult DTO
+// Purpose: Outcome of one input row of a bulk import (row is the 0-based position in the request body).
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRowResult {
+
+    public enum Status { CREATED, FAILED }
+
+    private int row;
+    private Status status;
+    private Long id; // Generated id when CREATED
+    private String email;
+    private List<String> errors; // Reasons when FAILED
+}
@@ -0,0 +1,26 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// ChangeFeedEntry DTO
+// Purpose: One department or professor write in GET /api/changes. Carries ids only: consumers fetch the current
+// state of changed entities with the batch-get endpoints (DELETED entities are simply dropped).
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedEntry {
+    private long position; // Feed order; pass the last one seen back as ?since=
+    private String entityType; // DEPARTMENT or PROFESSOR
+    private Long entityId;
+    private String changeType; // CREATED, UPDATED or DELETED
+    private Long departmentId; // Professors only
+    private Long previousDepartmentId; // Professors moved to another department only
+    private Instant occurredAt;
+}
@@ -0,0 +1,28 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ChangeFeedRequest DTO
+// Purpose: Query parameters of GET /api/changes (?since=&limit=&wait=).
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChangeFeedRequest {
+
+    @Min(value = 0, message = "Since cannot be negative.")
+    private long since = 0; // nextCursor of the previous batch, 0 for the oldest retained change
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = 1000, message = "Limit cannot exceed 1000.")
+    private int limit = 500;
+
+    // Long poll: seconds to hold the request open when there is nothing after since yet
+    @Min(value = 0, message = "Wait cannot be negative.")
+    @Max(value = 25, message = "Wait cannot exceed 25 seconds.")
+    private int wait = 0;
+}
@@ -0,0 +1,24 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// ChangeFeedResponse DTO
+// Purpose: A batch of GET /api/changes. nextCursor is the ?since= of the following request (unchanged when
+// the batch is empty). resyncRequired means the changes after since were already purged: reload the full
+// listings, then follow the feed from nextCursor.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private List<ChangeFeedEntry> changes;
+    private long nextCursor;
+    private boolean hasMore;
+    private boolean resyncRequired;
+}
@@ -0,0 +1,23 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// CompactProfessor DTO
+// Purpose: Professor row of the compact listing; the department is only referenced by id
+// and described once in the page's departments dictionary.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactProfessor {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String title;
+    private Long departmentId;
+}
@@ -0,0 +1,25 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+// CompactProfessorPage DTO
+// Purpose: GET /api/professors?view=compact. Same paging fields as CursorPageResponse, but each department
+// appears once in departments (keyed by id) instead of being repeated on every professor.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactProfessorPage {
+    private List<CompactProfessor> items;
+    private Map<Long, DepartmentSummary> departments;
+    private int limit;
+    private boolean hasMore;
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// CursorPageResponse DTO
+// Purpose: Envelope for keyset-paginated list endpoints.
+// nextCursor is passed back as ?cursor= to fetch the following page; it is null on the last page.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private int limit;
+    private boolean hasMore;
+    private String nextCursor;
+}
@@ -0,0 +1,33 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// DepartmentPageRequest DTO
+// Purpose: Query parameters of GET /api/departments (keyset paging, sorting and filtering).
+// Value equality lets a request be used directly as the page cache key.
+
+@Getter
+@EqualsAndHashCode
+@Setter
+@NoArgsConstructor
+public class DepartmentPageRequest {
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = 500, message = "Limit cannot exceed 500.")
+    private int limit = 50;
+
+    private String cursor; // Opaque nextCursor of the previous page
+
+    @Pattern(regexp = "id|name", message = "Sort must be one of: id, name.")
+    private String sort = "id";
+
+    private String code; // Exact department code
+
+    private String name; // Case-insensitive name prefix
+}
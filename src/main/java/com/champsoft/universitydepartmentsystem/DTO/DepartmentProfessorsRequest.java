@@ -0,0 +1,23 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// DepartmentProfessorsRequest DTO
+// Purpose: Optional paging of the nested professor list on GET /api/departments/{id}/professors.
+// Without a limit the whole list is returned, as before.
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class DepartmentProfessorsRequest {
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = 500, message = "Limit cannot exceed 500.")
+    private Integer limit;
+
+    private String cursor; // Opaque nextCursor of the previous page
+}
@@ -32,4 +32,7 @@ public class DepartmentRequestModel {
     @Min(value = 1800, message = "Year established must be 1800 or later.")
     @Max(value = 2100, message = "Year established cannot be in the future.")
     private Integer yearEstablished;
+
+    // Optional on PUT: the version the client last read. A stale version is rejected with 409 Conflict.
+    private Long version;
 }
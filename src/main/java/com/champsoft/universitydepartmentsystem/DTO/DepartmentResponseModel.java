@@ -19,4 +19,5 @@ public class DepartmentResponseModel {
     private String code;
     private Integer yearEstablished;
     private Integer professorCount; // Calculated field to show number of associated professors
+    private Long version; // Send back in the PUT body for optimistic locking
 }
\ No newline at end of file
@@ -18,5 +18,7 @@ public class DepartmentWithProfessorsResponseDTO {
     private String code;
     private Integer yearEstablished;
 
-    private List<ProfessorSummary> professors;
+    private List<ProfessorSummary> professors; // Ordered by last name, then id
+
+    private String nextCursor; // Set only when the professor list was paged and more professors follow
 }
@@ -0,0 +1,21 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// ProfessorDeleteResponse DTO
+// Purpose: Result of DELETE /api/professors?ids=... Ids that did not exist (or were already deleted)
+// are listed in missingIds instead of failing the whole request.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessorDeleteResponse {
+    private int deleted;
+    private List<Long> missingIds;
+}
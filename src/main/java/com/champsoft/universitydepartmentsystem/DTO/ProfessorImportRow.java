@@ -0,0 +1,37 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ProfessorImportRow DTO
+// Purpose: One row of POST /api/professors/bulk. Same rules as ProfessorRequestModel, but the
+// department can be given either by id or by code (exactly one of them is required).
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessorImportRow {
+
+    @NotBlank(message = "First name is required.")
+    private String firstName;
+
+    @NotBlank(message = "Last name is required.")
+    private String lastName;
+
+    @NotBlank(message = "Email is required.")
+    @Email(message = "Email must be a well-formed email address.")
+    private String email;
+
+    private String title; // Optional field
+
+    @Positive(message = "Department ID must be a positive number.")
+    private Long departmentId;
+
+    private String departmentCode; // Alternative to departmentId, e.g. CS
+}
@@ -0,0 +1,38 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// ProfessorMoveRequest DTO
+// Purpose: Body of POST /api/departments/{id}/professors:move. Selects the professors to move;
+// the filters combine with AND and at least one is required, so an empty body never moves everyone.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessorMoveRequest {
+
+    @Size(max = BatchGetRequest.MAX_IDS, message = "At most " + BatchGetRequest.MAX_IDS + " ids can be moved at once.")
+    private List<@NotNull(message = "Ids cannot be null.") Long> ids;
+
+    private String title; // Exact title, e.g. all "Lecturer"s of the source department
+
+    @Positive(message = "Source department ID must be a positive number.")
+    private Long fromDepartmentId; // e.g. the department being merged into the target
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one of ids, title or fromDepartmentId is required.")
+    public boolean isFilterPresent() {
+        return (ids != null && !ids.isEmpty()) || (title != null && !title.isBlank()) || fromDepartmentId != null;
+    }
+}
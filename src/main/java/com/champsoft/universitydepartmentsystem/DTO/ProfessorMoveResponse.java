@@ -0,0 +1,18 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ProfessorMoveResponse DTO
+// Purpose: Result of POST /api/departments/{id}/professors:move.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessorMoveResponse {
+    private Long departmentId; // Target department
+    private int moved; // Professors reassigned; those already in the target department are not counted
+}
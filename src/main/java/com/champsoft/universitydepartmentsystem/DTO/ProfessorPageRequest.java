@@ -0,0 +1,32 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ProfessorPageRequest DTO
+// Purpose: Query parameters of GET /api/professors (keyset paging, sorting and filtering).
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProfessorPageRequest {
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = 500, message = "Limit cannot exceed 500.")
+    private int limit = 50;
+
+    private String cursor; // Opaque nextCursor of the previous page
+
+    @Pattern(regexp = "id|lastName", message = "Sort must be one of: id, lastName.")
+    private String sort = "id";
+
+    private String departmentCode; // Exact department code, e.g. CS
+
+    private String title; // Exact title, e.g. Lecturer
+
+    private String name; // Case-insensitive last name prefix; sort=lastName then orders case-insensitively too
+}
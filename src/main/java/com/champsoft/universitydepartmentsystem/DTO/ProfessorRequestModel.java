@@ -29,5 +29,8 @@ public class ProfessorRequestModel {
     @NotNull(message = "Department ID is required to assign a Professor.")
     @Positive(message = "Department ID must be a positive number.")
     private Long departmentId;
+
+    // Optional on PUT: the version the client last read. A stale version is rejected with 409 Conflict.
+    private Long version;
 }
 
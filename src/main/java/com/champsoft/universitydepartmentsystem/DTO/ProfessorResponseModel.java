@@ -20,5 +20,6 @@ public class ProfessorResponseModel {
     private String title;
     private Long departmentId; // Added for editing functionality
     private DepartmentSummary department; // Added for display purposes
+    private Long version; // Send back in the PUT body for optimistic locking
 }
 
@@ -0,0 +1,27 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ProfessorSearchRequest DTO
+// Purpose: Query parameters of GET /api/professors/search.
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProfessorSearchRequest {
+
+    // Words matched as prefixes against first/last name, email and title; all words must match
+    @NotBlank(message = "Search query is required.")
+    @Size(max = 200, message = "Search query cannot exceed 200 characters.")
+    private String q;
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = 100, message = "Limit cannot exceed 100.")
+    private int limit = 20;
+}
@@ -0,0 +1,25 @@
+package com.champsoft.universitydepartmentsystem.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ProfessorSearchResult DTO
+// Purpose: One hit of GET /api/professors/search, served from the in-memory index (no database read).
+// Results are ordered by score (higher is better); equal scores keep the index's visiting order
+// (the field matched, then the matched word, then id), see ProfessorSearchIndex.search.
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessorSearchResult {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String title;
+    private Long departmentId;
+    private double score;
+}
@@ -0,0 +1,59 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+// Outbox of department/professor writes, appended in the writing transaction (see ChangeOutboxWriter).
+// position is the order of the change feed: null until the sequencer numbers the committed row, so a consumer
+// reading past a position never skips a row that committed later with a lower id.
+@Table(name = "change_event", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_change_event_position", columnNames = "feed_position")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChangeEvent {
+
+    public enum EntityType { DEPARTMENT, PROFESSOR }
+
+    @Id
+    // Pooled sequence, see V1__baseline_schema.sql
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_event_seq")
+    @SequenceGenerator(name = "change_event_seq", sequenceName = "change_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "feed_position")
+    private Long position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    // CREATED, UPDATED or DELETED
+    @Column(nullable = false, length = 20)
+    private String changeType;
+
+    // Professors: their department, and the one they left when the change moved them
+    private Long departmentId;
+
+    private Long previousDepartmentId;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    public ChangeEvent(EntityType entityType, Long entityId, String changeType, Long departmentId,
+                       Long previousDepartmentId, Instant occurredAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeType = changeType;
+        this.departmentId = departmentId;
+        this.previousDepartmentId = previousDepartmentId;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    // Committed events still waiting for a feed position, in insertion order (partial index on feed_position is null)
+    @Query("select e from ChangeEvent e where e.position is null order by e.id")
+    List<ChangeEvent> findUnsequenced(Pageable limit);
+
+    // The feed after a position, in feed order (unique index on feed_position)
+    @Query("select e from ChangeEvent e where e.position > :since order by e.position")
+    List<ChangeEvent> findAfter(@Param("since") long since, Pageable limit);
+
+    // Highest position among the events older than cutoff, null if there are none
+    @Query("select max(e.position) from ChangeEvent e where e.occurredAt < :cutoff")
+    Long findLastPositionBefore(@Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Query("delete from ChangeEvent e where e.position <= :position")
+    int deleteThrough(@Param("position") long position);
+}
@@ -0,0 +1,26 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+// Single row (id 1) shared by all nodes: the last feed position handed out and the position up to which
+// events were purged. Sequencing locks it, so positions are assigned by one transaction at a time.
+@Table(name = "change_feed_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedState {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastPosition;
+
+    @Column(nullable = false)
+    private Long purgedThrough;
+}
@@ -0,0 +1,17 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChangeFeedStateRepository extends JpaRepository<ChangeFeedState, Integer> {
+
+    // select ... for update: concurrent sequencers (one per node) take turns
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ChangeFeedState s where s.id = :id")
+    Optional<ChangeFeedState> lockById(@Param("id") Integer id);
+}
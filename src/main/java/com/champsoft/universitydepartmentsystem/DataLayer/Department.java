@@ -1,16 +1,22 @@
 package com.champsoft.universitydepartmentsystem.DataLayer;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import java.util.HashSet;
 import java.util.Set;
 @Entity
+// Updates set only the changed columns (plus version)
+@DynamicUpdate
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor // Default constructor for JPA
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence, see V1__baseline_schema.sql
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_seq")
+    @SequenceGenerator(name = "department_seq", sequenceName = "department_seq", allocationSize = 50)
     private Long id;
 
     // Fields from UML and Validation
@@ -22,6 +28,20 @@ public class Department {
 
     private Integer yearEstablished;
 
+    // Optimistic lock and cache validator (ETag). Also incremented when the department's professors change,
+    // so one number describes the department together with its professor list.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Denormalized number of professors, so department reads never count or load the professors.
+    // Only changed by the UPDATE statements of DepartmentAggregateUpdater (professor writes) and
+    // ProfessorCountReconciler (drift repair): the entity itself never writes it.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long professorCount;
+
     // One-to-Many relationship with Professor (R3)
     // FetchType.LAZY is used for collections (best practice)
     // CascadeType.PERSIST ensures if we save a new Department with new Professors, they are saved too.
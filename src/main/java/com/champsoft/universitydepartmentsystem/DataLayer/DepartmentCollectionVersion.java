@@ -0,0 +1,12 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+// Cheap aggregate validator for the department collection, computed by one statement over the small department table.
+// Ids only grow, so (count, maxId) changes whenever a department is added or removed, and versionSum grows on every
+// department update and every professor change (both increment a department version).
+public interface DepartmentCollectionVersion {
+    Long getDepartmentCount();
+
+    Long getMaxId();
+
+    Long getVersionSum();
+}
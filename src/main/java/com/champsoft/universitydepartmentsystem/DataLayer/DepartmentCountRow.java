@@ -0,0 +1,16 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// DepartmentCountView implementation for rows read by the hand-written queries of this package.
+@Getter
+@AllArgsConstructor
+class DepartmentCountRow implements DepartmentCountView {
+    private final Long id;
+    private final String name;
+    private final String code;
+    private final Integer yearEstablished;
+    private final Long version;
+    private final Long professorCount;
+}
@@ -0,0 +1,17 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+// Read-only projection of a Department row together with its aggregated professor count.
+// Filled by a single grouped query so department reads never initialise the lazy professors collection.
+public interface DepartmentCountView {
+    Long getId();
+
+    String getName();
+
+    String getCode();
+
+    Integer getYearEstablished();
+
+    Long getVersion();
+
+    Long getProfessorCount();
+}
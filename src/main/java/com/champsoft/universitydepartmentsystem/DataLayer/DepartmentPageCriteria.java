@@ -0,0 +1,17 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Filters and keyset position for one page of departments.
+// afterId/afterKey identify the last row of the previous page (both null for the first page).
+@Getter
+@AllArgsConstructor
+public class DepartmentPageCriteria {
+    private final String code;
+    private final String namePrefix;
+    private final boolean sortByName; // false = order by id
+    private final Long afterId;
+    private final String afterKey;
+    private final int limit;
+}
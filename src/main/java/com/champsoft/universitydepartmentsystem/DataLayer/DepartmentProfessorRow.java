@@ -0,0 +1,18 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// DepartmentProfessorView implementation for rows read by the hand-written queries of this package.
+@Getter
+@AllArgsConstructor
+class DepartmentProfessorRow implements DepartmentProfessorView {
+    private final Long id;
+    private final String name;
+    private final String code;
+    private final Integer yearEstablished;
+    private final Long professorId;
+    private final String professorFirstName;
+    private final String professorLastName;
+    private final String professorTitle;
+}
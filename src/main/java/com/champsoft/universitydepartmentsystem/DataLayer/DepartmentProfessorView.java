@@ -0,0 +1,21 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+// Flat read-only row of a department left-joined with one of its professors.
+// The professor columns are null for a department without professors (or past the last professor page).
+public interface DepartmentProfessorView {
+    Long getId();
+
+    String getName();
+
+    String getCode();
+
+    Integer getYearEstablished();
+
+    Long getProfessorId();
+
+    String getProfessorFirstName();
+
+    String getProfessorLastName();
+
+    String getProfessorTitle();
+}
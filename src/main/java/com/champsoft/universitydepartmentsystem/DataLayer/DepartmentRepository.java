@@ -1,7 +1,72 @@
 package com.champsoft.universitydepartmentsystem.DataLayer;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>, DepartmentRepositoryCustom {
+
+    // One department with its professor count, read from the department table alone (professor_count column)
+    @Query("select d.id as id, d.name as name, d.code as code, d.yearEstablished as yearEstablished, d.version as version, " +
+            "d.professorCount as professorCount " +
+            "from Department d " +
+            "where d.id = :id")
+    Optional<DepartmentCountView> findWithProfessorCountById(@Param("id") Long id);
+
+    // Batch lookup: the requested departments with their professor counts in one IN query
+    @Query("select d.id as id, d.name as name, d.code as code, d.yearEstablished as yearEstablished, d.version as version, " +
+            "d.professorCount as professorCount " +
+            "from Department d " +
+            "where d.id in :ids")
+    List<DepartmentCountView> findAllWithProfessorCountByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Current version of one department, read without loading the entity (ETag checks)
+    @Query("select d.version from Department d where d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Aggregate validator of the whole department collection, see DepartmentCollectionVersion
+    @Query("select count(d) as departmentCount, coalesce(max(d.id), 0) as maxId, coalesce(sum(d.version), 0) as versionSum " +
+            "from Department d")
+    DepartmentCollectionVersion findCollectionVersion();
+
+    // Marks the department as changed after its professor list changed and adds delta to its professor count
+    @Modifying
+    @Transactional
+    @Query("update Department d set d.version = d.version + 1, d.professorCount = d.professorCount + :delta " +
+            "where d.id = :id")
+    int applyProfessorChanges(@Param("id") Long id, @Param("delta") long delta);
+
+    // Departments whose stored professor count differs from the professor rows (drift detection)
+    @Query("select d.id from Department d " +
+            "where d.professorCount <> (select count(p) from Professor p where p.department = d)")
+    List<Long> findIdsWithProfessorCountDrift();
+
+    // Locks the department row, so professor writes of the department wait until the count is repaired
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d.id from Department d where d.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // Recounts one department's professors; returns the number of rows changed (0 or 1)
+    @Modifying
+    @Query("update Department d set d.version = d.version + 1, " +
+            "d.professorCount = (select count(p) from Professor p where p.department = d) " +
+            "where d.id = :id and d.professorCount <> (select count(p) from Professor p where p.department = d)")
+    int recountProfessors(@Param("id") Long id);
+
+    // Deletes the department only while no professor references it, in one statement.
+    // Returns 0 when the department does not exist or still has professors.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Department d where d.id = :id " +
+            "and not exists (select p.id from Professor p where p.department = d)")
+    int deleteIfEmpty(@Param("id") Long id);
 }
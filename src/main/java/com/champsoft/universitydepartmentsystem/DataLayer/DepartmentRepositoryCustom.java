@@ -0,0 +1,20 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import java.util.List;
+
+// Custom query fragment of DepartmentRepository for queries that are assembled at runtime.
+public interface DepartmentRepositoryCustom {
+
+    /**
+     * Returns up to criteria.limit + 1 departments (with professor counts) after the keyset position.
+     * The extra row tells the caller whether another page exists.
+     */
+    List<DepartmentCountView> findPage(DepartmentPageCriteria criteria);
+
+    /**
+     * Returns the department with its professors ordered by last name then id, as flat rows of one statement.
+     * With a limit, returns up to limit + 1 professors after the (afterLastName, afterId) keyset position.
+     * Empty if the department does not exist; a single row with null professor columns if it has no (more) professors.
+     */
+    List<DepartmentProfessorView> findWithProfessors(Long departmentId, String afterLastName, Long afterId, Integer limit);
+}
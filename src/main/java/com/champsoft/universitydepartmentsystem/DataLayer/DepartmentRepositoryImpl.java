@@ -0,0 +1,105 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Keyset pagination for departments (professor counts read from the department row)
+// and the department-with-professors read, both assembled at runtime.
+class DepartmentRepositoryImpl implements DepartmentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<DepartmentCountView> findPage(DepartmentPageCriteria criteria) {
+        StringBuilder jpql = new StringBuilder(
+                "select d.id as id, d.name as name, d.code as code, d.yearEstablished as yearEstablished, d.version as version, " +
+                        "d.professorCount as professorCount " +
+                        "from Department d where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (criteria.getCode() != null) {
+            jpql.append(" and d.code = :code");
+            parameters.put("code", criteria.getCode());
+        }
+        if (criteria.getNamePrefix() != null) {
+            jpql.append(" and lower(d.name) like :namePrefix escape '\\'");
+            parameters.put("namePrefix", QueryUtils.likePrefix(criteria.getNamePrefix().toLowerCase(Locale.ROOT)));
+        }
+        if (criteria.getAfterId() != null) {
+            if (criteria.isSortByName()) {
+                // Department names are unique, but the id keeps the ordering total
+                jpql.append(" and (d.name > :afterKey or (d.name = :afterKey and d.id > :afterId))");
+                parameters.put("afterKey", criteria.getAfterKey());
+            } else {
+                jpql.append(" and d.id > :afterId");
+            }
+            parameters.put("afterId", criteria.getAfterId());
+        }
+
+        jpql.append(criteria.isSortByName() ? " order by d.name, d.id" : " order by d.id");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(criteria.getLimit() + 1).getResultList().stream()
+                .map(DepartmentRepositoryImpl::toView)
+                .toList();
+    }
+
+    @Override
+    public List<DepartmentProfessorView> findWithProfessors(Long departmentId, String afterLastName, Long afterId, Integer limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select d.id as id, d.name as name, d.code as code, d.yearEstablished as yearEstablished, " +
+                        "p.id as professorId, p.firstName as professorFirstName, p.lastName as professorLastName, " +
+                        "p.title as professorTitle " +
+                        "from Department d left join d.professors p");
+        // The keyset goes into the join condition so the department row survives past the last professor
+        if (afterId != null) {
+            jpql.append(" on (p.lastName > :afterKey or (p.lastName = :afterKey and p.id > :afterId))");
+        }
+        jpql.append(" where d.id = :departmentId order by p.lastName, p.id");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("departmentId", departmentId);
+        if (afterId != null) {
+            query.setParameter("afterKey", afterLastName).setParameter("afterId", afterId);
+        }
+        if (limit != null) {
+            query.setMaxResults(limit + 1);
+        }
+        return query.getResultList().stream()
+                .map(DepartmentRepositoryImpl::toProfessorView)
+                .toList();
+    }
+
+    private static DepartmentCountView toView(Tuple tuple) {
+        return new DepartmentCountRow(
+                tuple.get("id", Long.class),
+                tuple.get("name", String.class),
+                tuple.get("code", String.class),
+                tuple.get("yearEstablished", Integer.class),
+                tuple.get("version", Long.class),
+                tuple.get("professorCount", Long.class)
+        );
+    }
+
+    private static DepartmentProfessorView toProfessorView(Tuple tuple) {
+        return new DepartmentProfessorRow(
+                tuple.get("id", Long.class),
+                tuple.get("name", String.class),
+                tuple.get("code", String.class),
+                tuple.get("yearEstablished", Integer.class),
+                tuple.get("professorId", Long.class),
+                tuple.get("professorFirstName", String.class),
+                tuple.get("professorLastName", String.class),
+                tuple.get("professorTitle", String.class)
+        );
+    }
+}
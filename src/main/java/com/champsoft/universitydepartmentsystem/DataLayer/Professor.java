@@ -2,15 +2,30 @@ package com.champsoft.universitydepartmentsystem.DataLayer;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+// Indexes backing the keyset listings (order by id / last_name, id) and the department join.
+// The department index also carries (last_name, id) so a department's professor list is read in index order.
+// The schema is created by the Flyway migrations (db/migration); keep these declarations in sync with them.
+// The (lower(last_name), id) index of the name prefix filter is an expression index, so it exists only in the migrations,
+// as does the "C" collation of last_name that lets it serve both the prefix range and the order (V4).
+@Table(indexes = {
+        @Index(name = "idx_professor_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_professor_department_last_name_id", columnList = "department_id, last_name, id")
+})
+// Updates set only the changed columns (plus version), e.g. a PATCH of the title leaves the indexed columns alone
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 public class Professor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence, see V1__baseline_schema.sql
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "professor_seq")
+    @SequenceGenerator(name = "professor_seq", sequenceName = "professor_seq", allocationSize = 50)
     private Long id; // ✅ required
 
     @Column(nullable = false)
@@ -24,7 +39,15 @@ public class Professor {
 
     private String title;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Optimistic lock: concurrent updates of the same professor fail instead of overwriting each other
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // LAZY: reads that need the department fetch it explicitly (fetch join / entity graph),
+    // so writes such as delete never pull it in.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
 
@@ -0,0 +1,5 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+// A professor id with the id of its current department.
+public record ProfessorDepartmentRow(Long professorId, Long departmentId) {
+}
@@ -0,0 +1,21 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+// Flat read-only projection of a professor joined with its department, used for directory exports
+// and to feed the professor search index.
+public interface ProfessorDirectoryRow {
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getTitle();
+
+    Long getDepartmentId();
+
+    String getDepartmentCode();
+
+    String getDepartmentName();
+}
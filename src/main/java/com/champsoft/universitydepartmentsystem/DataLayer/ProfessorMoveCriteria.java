@@ -0,0 +1,17 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Filters selecting the professors of a bulk move (null = not filtered). Professors already in the
+// target department never match.
+@Getter
+@AllArgsConstructor
+public class ProfessorMoveCriteria {
+    private final Long targetDepartmentId;
+    private final List<Long> ids;
+    private final String title;
+    private final Long fromDepartmentId;
+}
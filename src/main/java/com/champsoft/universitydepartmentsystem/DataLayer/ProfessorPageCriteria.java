@@ -0,0 +1,18 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Filters and keyset position for one page of professors.
+// afterId/afterKey identify the last row of the previous page (both null for the first page).
+@Getter
+@AllArgsConstructor
+public class ProfessorPageCriteria {
+    private final String departmentCode;
+    private final String title;
+    private final String namePrefix;
+    private final boolean sortByLastName; // false = order by id
+    private final Long afterId;
+    private final String afterKey;
+    private final int limit;
+}
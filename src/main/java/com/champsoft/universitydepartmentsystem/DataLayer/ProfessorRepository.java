@@ -1,15 +1,73 @@
 package com.champsoft.universitydepartmentsystem.DataLayer;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 // Spring Data JPA Repository for the Professor entity.
 // R4: Follow Java/Spring naming conventions
 
 @Repository
-public interface ProfessorRepository extends JpaRepository<Professor, Long> {
+public interface ProfessorRepository extends JpaRepository<Professor, Long>, ProfessorRepositoryCustom {
 
+    // Batch lookup: the requested professors with their department in one IN query (order restored by the caller)
+    @Query("select p from Professor p join fetch p.department where p.id in :ids")
+    List<Professor> findAllWithDepartmentByIdIn(@Param("ids") Collection<Long> ids);
 
+    // One professor with its department, joined in the same select
+    @EntityGraph(attributePaths = "department")
+    Optional<Professor> findWithDepartmentById(Long id);
+
+    // Forward-only cursor over the whole directory as flat rows (no entities in the persistence context).
+    // The fetch size makes the PostgreSQL driver stream rows instead of buffering the full result;
+    // the caller must consume the stream inside a transaction and close it.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.id as id, p.firstName as firstName, p.lastName as lastName, p.email as email, p.title as title, " +
+            "d.id as departmentId, d.code as departmentCode, d.name as departmentName " +
+            "from Professor p join p.department d order by p.id")
+    Stream<ProfessorDirectoryRow> streamDirectory();
+
+    // Which of the given emails are already taken (used to pre-validate bulk imports per batch)
+    @Query("select p.email from Professor p where p.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // The same flat rows for a set of professors (search index refresh after writes)
+    @Query("select p.id as id, p.firstName as firstName, p.lastName as lastName, p.email as email, p.title as title, " +
+            "d.id as departmentId, d.code as departmentCode, d.name as departmentName " +
+            "from Professor p join p.department d where p.id in :ids")
+    List<ProfessorDirectoryRow> findDirectoryRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Set-based move of the given professors to another department. The version is incremented as a regular
+    // update would, so a concurrent update that loaded a professor before the move fails instead of undoing it.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Professor p set p.department = :department, p.version = p.version + 1 where p.id in :ids")
+    int moveToDepartment(@Param("ids") Collection<Long> ids, @Param("department") Department department);
+
+    // Department of each given professor (missing ids are left out), with the rows locked until commit:
+    // a delete needs it for the department counts and change events, and a concurrent move cannot change it first
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.champsoft.universitydepartmentsystem.DataLayer.ProfessorDepartmentRow(p.id, p.department.id) " +
+            "from Professor p where p.id in :ids order by p.id")
+    List<ProfessorDepartmentRow> lockDepartmentRows(@Param("ids") Collection<Long> ids);
+
+    // Set-based delete without loading the professors; returns the number of rows deleted
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Professor p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
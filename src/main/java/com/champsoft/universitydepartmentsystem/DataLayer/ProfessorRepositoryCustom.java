@@ -0,0 +1,19 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import java.util.List;
+
+// Custom query fragment of ProfessorRepository for queries that are assembled at runtime.
+public interface ProfessorRepositoryCustom {
+
+    /**
+     * Returns up to criteria.limit + 1 professors (with their department) after the keyset position.
+     * The extra row tells the caller whether another page exists.
+     */
+    List<Professor> findPage(ProfessorPageCriteria criteria);
+
+    /**
+     * Locks the professors matching a bulk move (SELECT ... FOR UPDATE, in id order) and returns them with
+     * their current department, so the move can report exact per-department changes.
+     */
+    List<ProfessorDepartmentRow> lockForMove(ProfessorMoveCriteria criteria);
+}
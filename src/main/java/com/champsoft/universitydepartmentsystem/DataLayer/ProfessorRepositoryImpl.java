@@ -0,0 +1,90 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Keyset pagination and bulk move selection for professors. Only the predicates that are actually requested are added,
+// so every generated statement is a plain range scan on (id) or (last_name, id); the case-insensitive name prefix
+// sorted by last name scans the (lower(last_name), id) expression index instead (V4 migration).
+class ProfessorRepositoryImpl implements ProfessorRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Professor> findPage(ProfessorPageCriteria criteria) {
+        StringBuilder jpql = new StringBuilder("select p from Professor p join fetch p.department d where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (criteria.getDepartmentCode() != null) {
+            jpql.append(" and d.code = :departmentCode");
+            parameters.put("departmentCode", criteria.getDepartmentCode());
+        }
+        if (criteria.getTitle() != null) {
+            jpql.append(" and p.title = :title");
+            parameters.put("title", criteria.getTitle());
+        }
+        if (criteria.getNamePrefix() != null) {
+            jpql.append(" and lower(p.lastName) like :namePrefix escape '\\'");
+            parameters.put("namePrefix", QueryUtils.likePrefix(criteria.getNamePrefix().toLowerCase(Locale.ROOT)));
+        }
+
+        if (criteria.isSortByLastName()) {
+            // With the name prefix the sort key is lower(last_name) as well, so the prefix range of the
+            // (lower(last_name), id) index is read in order and no sort step is needed
+            String sortKey = criteria.getNamePrefix() != null ? "lower(p.lastName)" : "p.lastName";
+            String afterKey = criteria.getNamePrefix() != null ? "lower(:afterKey)" : ":afterKey";
+            if (criteria.getAfterId() != null) {
+                jpql.append(" and (").append(sortKey).append(" > ").append(afterKey)
+                        .append(" or (").append(sortKey).append(" = ").append(afterKey).append(" and p.id > :afterId))");
+                parameters.put("afterKey", criteria.getAfterKey());
+                parameters.put("afterId", criteria.getAfterId());
+            }
+            jpql.append(" order by ").append(sortKey).append(", p.id");
+        } else {
+            if (criteria.getAfterId() != null) {
+                jpql.append(" and p.id > :afterId");
+                parameters.put("afterId", criteria.getAfterId());
+            }
+            jpql.append(" order by p.id");
+        }
+
+        TypedQuery<Professor> query = entityManager.createQuery(jpql.toString(), Professor.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(criteria.getLimit() + 1).getResultList();
+    }
+
+    @Override
+    public List<ProfessorDepartmentRow> lockForMove(ProfessorMoveCriteria criteria) {
+        StringBuilder jpql = new StringBuilder("select new com.champsoft.universitydepartmentsystem.DataLayer."
+                + "ProfessorDepartmentRow(p.id, p.department.id) from Professor p where p.department.id <> :targetId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("targetId", criteria.getTargetDepartmentId());
+
+        if (criteria.getIds() != null) {
+            jpql.append(" and p.id in :ids");
+            parameters.put("ids", criteria.getIds());
+        }
+        if (criteria.getTitle() != null) {
+            jpql.append(" and p.title = :title");
+            parameters.put("title", criteria.getTitle());
+        }
+        if (criteria.getFromDepartmentId() != null) {
+            jpql.append(" and p.department.id = :fromDepartmentId");
+            parameters.put("fromDepartmentId", criteria.getFromDepartmentId());
+        }
+        // Id order: two concurrent moves over overlapping professors lock them in the same order instead of deadlocking
+        jpql.append(" order by p.id");
+
+        TypedQuery<ProfessorDepartmentRow> query = entityManager.createQuery(jpql.toString(), ProfessorDepartmentRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+    }
+}
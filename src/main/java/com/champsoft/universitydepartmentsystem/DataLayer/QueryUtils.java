@@ -0,0 +1,13 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+// Small helpers shared by the hand-written JPQL queries of this package.
+final class QueryUtils {
+
+    private QueryUtils() {
+    }
+
+    // Builds a LIKE pattern matching values that start with the given text ('\' is the escape character).
+    static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
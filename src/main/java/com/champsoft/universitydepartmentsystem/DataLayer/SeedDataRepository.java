@@ -0,0 +1,101 @@
+package com.champsoft.universitydepartmentsystem.DataLayer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Plain JDBC batch inserts for seed and load-test data. Rows bypass the persistence context entirely;
+// with the PostgreSQL driver's reWriteBatchedInserts a department batch goes out as a few multi-row INSERTs.
+// "on conflict do nothing" makes the inserts safe when two instances seed the same database concurrently.
+@Repository
+public class SeedDataRepository {
+
+    // Must match allocationSize of the entities' @SequenceGenerator: one nextval reserves this many ids
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeedDataRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record DepartmentSeedRow(String name, String code, Integer yearEstablished) {
+    }
+
+    public record ProfessorSeedRow(String firstName, String lastName, String email, String title, Long departmentId) {
+    }
+
+    public void insertDepartments(List<DepartmentSeedRow> rows) {
+        List<Long> ids = nextIds("department_seq", rows.size());
+        List<Object[]> arguments = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            DepartmentSeedRow row = rows.get(i);
+            arguments.add(new Object[]{ids.get(i), row.name(), row.code(), row.yearEstablished()});
+        }
+        jdbcTemplate.batchUpdate("insert into department (id, name, code, year_established, version) "
+                + "values (?, ?, ?, ?, 0) on conflict do nothing", arguments);
+    }
+
+    // Returns the number of rows inserted; rows skipped by "on conflict do nothing" are not counted
+    public int insertProfessors(List<ProfessorSeedRow> rows) {
+        List<Long> ids = nextIds("professor_seq", rows.size());
+        // department_id comes back for each inserted row only. Asking for it also stops the driver from rewriting the
+        // batch into multi-row INSERTs, whose update counts would not tell inserted and skipped rows apart.
+        KeyHolder insertedDepartments = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(
+                        "insert into professor (id, first_name, last_name, email, title, department_id, version) "
+                                + "values (?, ?, ?, ?, ?, ?, 0) on conflict do nothing", new String[]{"department_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        ProfessorSeedRow row = rows.get(i);
+                        statement.setLong(1, ids.get(i));
+                        statement.setString(2, row.firstName());
+                        statement.setString(3, row.lastName());
+                        statement.setString(4, row.email());
+                        statement.setString(5, row.title());
+                        statement.setLong(6, row.departmentId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                insertedDepartments);
+
+        // Keep department.professor_count in step, one row per department in id order (consistent lock order)
+        Map<Long, Long> insertedByDepartment = insertedDepartments.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+        jdbcTemplate.batchUpdate("update department set professor_count = professor_count + ? where id = ?",
+                insertedByDepartment.entrySet().stream()
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .toList());
+        return insertedDepartments.getKeyList().size();
+    }
+
+    // Ids from the entity sequences, taken the way Hibernate's pooled optimizer does:
+    // nextval() = n reserves (n - 50, n], so these ids never collide with ids Hibernate hands out later.
+    private List<Long> nextIds(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long high = jdbcTemplate.queryForObject("select nextval('" + sequence + "')", Long.class);
+            for (long id = Math.max(1, high - ID_BLOCK_SIZE + 1); id <= high && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
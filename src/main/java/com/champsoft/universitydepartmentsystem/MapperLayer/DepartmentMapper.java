@@ -2,11 +2,15 @@ package com.champsoft.universitydepartmentsystem.MapperLayer;
 
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
 import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentCountView;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentProfessorView;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentResponseModel;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentWithProfessorsResponseDTO;
 import com.champsoft.universitydepartmentsystem.DTO.ProfessorSummary;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 // R4, R8: Mapper component for converting Department entities to DTOs.
@@ -22,18 +26,35 @@ public class DepartmentMapper {
 
     /**
      * Converts a Department Entity to the basic DepartmentResponseModel (used for GET all/one).
-     * Calculates the professorCount for the DTO.
+     * The professorCount comes from the denormalized column; a department just inserted has not read it back yet
+     * and has no professors.
      */
     public DepartmentResponseModel toResponseModel(Department department) {
 
-        int professorCount = department.getProfessors() != null ? department.getProfessors().size() : 0;
+        int professorCount = department.getProfessorCount() != null ? department.getProfessorCount().intValue() : 0;
 
         return new DepartmentResponseModel(
                 department.getId(),
                 department.getName(),
                 department.getCode(),
                 department.getYearEstablished(),
-                professorCount // Include calculated count
+                professorCount, // Include stored count
+                department.getVersion()
+        );
+    }
+
+    /**
+     * Converts the grouped DepartmentCountView projection to a DepartmentResponseModel.
+     * The count is already aggregated by the query, so no collection is touched here.
+     */
+    public DepartmentResponseModel toResponseModel(DepartmentCountView view) {
+        return new DepartmentResponseModel(
+                view.getId(),
+                view.getName(),
+                view.getCode(),
+                view.getYearEstablished(),
+                view.getProfessorCount() != null ? view.getProfessorCount().intValue() : 0,
+                view.getVersion()
         );
     }
 
@@ -56,7 +77,37 @@ public class DepartmentMapper {
                 department.getName(),
                 department.getCode(),
                 department.getYearEstablished(),
-                professorSummaries // Include the list of summaries
+                professorSummaries, // Include the list of summaries
+                null
+        );
+    }
+
+    /**
+     * Builds the aggregated DTO from the flat department/professor rows of a single join query.
+     * Rows with a null professor id (department without professors) contribute no summary.
+     */
+    public DepartmentWithProfessorsResponseDTO toDepartmentWithProfessorsResponseDTO(List<DepartmentProfessorView> rows,
+                                                                                     String nextCursor) {
+        DepartmentProfessorView department = rows.get(0);
+        List<ProfessorSummary> professorSummaries = new ArrayList<>(rows.size());
+        for (DepartmentProfessorView row : rows) {
+            if (row.getProfessorId() != null) {
+                professorSummaries.add(new ProfessorSummary(
+                        row.getProfessorId(),
+                        row.getProfessorFirstName(),
+                        row.getProfessorLastName(),
+                        row.getProfessorTitle()
+                ));
+            }
+        }
+
+        return new DepartmentWithProfessorsResponseDTO(
+                department.getId(),
+                department.getName(),
+                department.getCode(),
+                department.getYearEstablished(),
+                professorSummaries,
+                nextCursor
         );
     }
 
@@ -70,4 +121,14 @@ public class DepartmentMapper {
                 // The Department entity's custom constructor handles the initialization of the 'professors' Set.
         );
     }
+
+    // Converts Entity -> Request DTO: the current state a JSON Merge Patch is applied to (version included)
+    public DepartmentRequestModel toRequestModel(Department department) {
+        return new DepartmentRequestModel(
+                department.getName(),
+                department.getCode(),
+                department.getYearEstablished(),
+                department.getVersion()
+        );
+    }
 }
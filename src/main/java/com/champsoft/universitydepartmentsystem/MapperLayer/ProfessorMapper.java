@@ -1,6 +1,8 @@
 package com.champsoft.universitydepartmentsystem.MapperLayer;
 
+import com.champsoft.universitydepartmentsystem.DTO.CompactProfessor;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentSummary;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorImportRow;
 import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
 import com.champsoft.universitydepartmentsystem.DataLayer.Department;
 import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
@@ -32,10 +34,43 @@ public class ProfessorMapper {
                 professor.getEmail(),
                 professor.getTitle(),
                 departmentId,
-                departmentSummary
+                departmentSummary,
+                professor.getVersion()
         );
     }
 
+    // Converts Entity -> Response DTO when the department summary is already known (e.g. from cache),
+    // so the department association is never initialised.
+    public ProfessorResponseModel toResponseModel(Professor professor, DepartmentSummary departmentSummary) {
+        return new ProfessorResponseModel(
+                professor.getId(),
+                professor.getFirstName(),
+                professor.getLastName(),
+                professor.getEmail(),
+                professor.getTitle(),
+                departmentSummary.getId(),
+                departmentSummary,
+                professor.getVersion()
+        );
+    }
+
+    // Converts Entity -> compact listing row (department by id only)
+    public CompactProfessor toCompactProfessor(Professor professor) {
+        return new CompactProfessor(
+                professor.getId(),
+                professor.getFirstName(),
+                professor.getLastName(),
+                professor.getEmail(),
+                professor.getTitle(),
+                professor.getDepartment() != null ? professor.getDepartment().getId() : null
+        );
+    }
+
+    // Converts Department entity -> summary (dictionary entry of the compact listing)
+    public DepartmentSummary toDepartmentSummary(Department department) {
+        return new DepartmentSummary(department.getId(), department.getName(), department.getCode());
+    }
+
     // Converts Request DTO -> Entity
     public Professor toEntity(ProfessorRequestModel requestModel, Department department) {
         return new Professor(
@@ -46,4 +81,28 @@ public class ProfessorMapper {
                 department // ✅ use actual Department object, not an ID
         );
     }
+
+    // Converts Entity -> Request DTO: the current state a JSON Merge Patch is applied to (version included).
+    // Reads only the department id, so a lazy department is not initialised.
+    public ProfessorRequestModel toRequestModel(Professor professor) {
+        return new ProfessorRequestModel(
+                professor.getFirstName(),
+                professor.getLastName(),
+                professor.getEmail(),
+                professor.getTitle(),
+                professor.getDepartment().getId(),
+                professor.getVersion()
+        );
+    }
+
+    // Converts a bulk import row -> Entity (department already resolved by the import)
+    public Professor toEntity(ProfessorImportRow row, Department department) {
+        return new Professor(
+                row.getFirstName(),
+                row.getLastName(),
+                row.getEmail(),
+                row.getTitle(),
+                department
+        );
+    }
 }
@@ -0,0 +1,88 @@
+package com.champsoft.universitydepartmentsystem.PresentationLayer;
+
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ChangeFeedService;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedEntry;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedResponse;
+import com.champsoft.universitydepartmentsystem.config.ChangeFeedProperties;
+import com.champsoft.universitydepartmentsystem.utilities.BadRequestException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Change feed for clients that keep a copy of departments/professors in sync: instead of re-listing everything,
+// they ask for the changes after the cursor they hold and re-fetch only those ids (GET /api/professors?ids=...).
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+    private final ChangeFeedProperties properties;
+
+    // GET /api/changes?since=&limit=&wait= -> 200 OK, the changes after since in commit order with nextCursor.
+    // With wait > 0 the request is held until changes arrive or the wait is over (long poll).
+    // resyncRequired: changes after since were already purged, the client must reload before following the feed.
+    @GetMapping
+    public CompletableFuture<ChangeFeedResponse> getChanges(@Valid ChangeFeedRequest request) {
+        return changeFeedService.poll(request);
+    }
+
+    // GET /api/changes/stream?since= -> text/event-stream of "changes" events whose id is the position of their
+    // last change; a reconnecting client resumes from its Last-Event-ID header. 503 when too many streams are open.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long since,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        long cursor = resumePosition(since, lastEventId);
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Runnable cancel = changeFeedService.subscribe(cursor, new ChangeFeedService.ChangeSink() {
+            @Override
+            public void send(List<ChangeFeedEntry> changes) throws IOException {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(changes.get(changes.size() - 1).getPosition()))
+                        .name("changes")
+                        .data(changes, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void resyncRequired() throws IOException {
+                emitter.send(SseEmitter.event().name("resync-required").data(cursor));
+            }
+
+            @Override
+            public void heartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> cancel.run());
+        return emitter;
+    }
+
+    private static long resumePosition(Long since, String lastEventId) {
+        if (lastEventId != null) {
+            try {
+                return Math.max(0, Long.parseLong(lastEventId.trim()));
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+        if (since != null && since < 0) {
+            throw new BadRequestException("Since cannot be negative.");
+        }
+        return since != null ? since : 0;
+    }
+}
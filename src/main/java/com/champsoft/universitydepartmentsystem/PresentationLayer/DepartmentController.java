@@ -1,17 +1,33 @@
 package com.champsoft.universitydepartmentsystem.PresentationLayer;
 
 import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.DepartmentService;
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorService;
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetRequest;
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetResponse;
+import com.champsoft.universitydepartmentsystem.DTO.CursorPageResponse;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentPageRequest;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentProfessorsRequest;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentResponseModel;
 import com.champsoft.universitydepartmentsystem.DTO.DepartmentWithProfessorsResponseDTO;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorMoveRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorMoveResponse;
+import com.champsoft.universitydepartmentsystem.config.AsyncReadExecutor;
+import com.champsoft.universitydepartmentsystem.utilities.ETags;
+import com.champsoft.universitydepartmentsystem.utilities.JsonMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // R1: 3-Layer architecture: Controller layer
 // R4: Follow Java/Spring naming conventions (suffix with Controller)
@@ -23,17 +39,37 @@ import java.util.List;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final ProfessorService professorService;
+    private final AsyncReadExecutor readExecutor;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    // R6, R10: GET all -> 200 OK
+    // Reads go through the AsyncReadExecutor (see there for the read pool and its limits).
+
+    // R6, R10: GET all -> 200 OK, keyset paginated (?limit=&cursor=&sort=) with optional filters.
+    // Conditional GET: a matching If-None-Match -> 304 Not Modified without running the page query or writing a body.
+    // The ETag is read before the page, so a concurrent write can only make the next request miss, never serve stale data.
     @GetMapping
-    public List<DepartmentResponseModel> getAll() {
-        return departmentService.getAllDepartments();
+    public CompletableFuture<ResponseEntity<CursorPageResponse<DepartmentResponseModel>>> getAll(
+            @Valid DepartmentPageRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return readExecutor.submit("departments.list", () -> ETags.conditional(ifNoneMatch,
+                departmentService.getDepartmentsETag(), () -> departmentService.getDepartmentsPage(request)));
     }
 
-    // R6, R10: GET one by id -> 200 OK (or 404 Not Found handled by @ControllerAdvice)
+    // R6, R10: GET one by id -> 200 OK (or 404 Not Found handled by @ControllerAdvice), 304 when the ETag matches
     @GetMapping("/{id}")
-    public DepartmentResponseModel getById(@PathVariable Long id) {
-        return departmentService.findById(id);
+    public CompletableFuture<ResponseEntity<DepartmentResponseModel>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return readExecutor.submit("departments.get", () -> ETags.conditional(ifNoneMatch,
+                departmentService.getDepartmentETag(id), () -> departmentService.findById(id)));
+    }
+
+    // POST /api/departments/batch-get -> 200 OK, batch lookup in request order with missingIds (max 500 ids)
+    @PostMapping("/batch-get")
+    public CompletableFuture<BatchGetResponse<DepartmentResponseModel>> batchGet(@Valid @RequestBody BatchGetRequest req) {
+        return readExecutor.submit("departments.batch-get", () -> departmentService.findByIds(req.getIds()));
     }
 
     // R6, R10: POST -> 201 Created with Location header. R57: Validation errors -> 400 Bad Request.
@@ -55,16 +91,36 @@ public class DepartmentController {
         return departmentService.update(id, req);
     }
 
-    // R6, R10: DELETE -> 204 No Content (or 404)
+    // PATCH -> 200 OK (or 404/400/409). JSON Merge Patch: only the members sent are changed, null clears a member.
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public DepartmentResponseModel patch(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return departmentService.patch(id, new JsonMergePatch(patch, objectMapper, validator));
+    }
+
+    // R6, R10: DELETE -> 204 No Content (or 404; 409 while professors still belong to the department)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT) // R10: 204 No Content on successful DELETE.
     public void delete(@PathVariable Long id) {
         departmentService.delete(id);
     }
 
-    // R54, R6, R7: Aggregated Endpoint: GET /api/departments/{id}/professors -> 200 OK
+    // R54, R6, R7: Aggregated Endpoint: GET /api/departments/{id}/professors -> 200 OK, 304 when the ETag matches.
+    // The department version also moves when its professors change, so it validates the whole aggregate.
+    // Optional ?limit=&cursor= pages the nested professor list.
     @GetMapping("/{id}/professors")
-    public DepartmentWithProfessorsResponseDTO getProfessorsByDepartment(@PathVariable Long id) {
-        return departmentService.getDepartmentWithProfessors(id);
+    public CompletableFuture<ResponseEntity<DepartmentWithProfessorsResponseDTO>> getProfessorsByDepartment(
+            @PathVariable Long id,
+            @Valid DepartmentProfessorsRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return readExecutor.submit("departments.professors", () -> ETags.conditional(ifNoneMatch,
+                departmentService.getDepartmentETag(id), () -> departmentService.getDepartmentWithProfessors(id, request)));
+    }
+
+    // POST /api/departments/{id}/professors:move -> 200 OK with the number of professors moved (or 404/400).
+    // Reassigns the professors selected by ids, title and/or source department in set-based UPDATEs,
+    // e.g. {"fromDepartmentId": 7} when department 7 is merged into {id}.
+    @PostMapping("/{id}/professors:move")
+    public ProfessorMoveResponse moveProfessors(@PathVariable Long id, @Valid @RequestBody ProfessorMoveRequest req) {
+        return professorService.moveToDepartment(id, req);
     }
 }
@@ -1,16 +1,41 @@
 package com.champsoft.universitydepartmentsystem.PresentationLayer;
 
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorExportService;
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorImportService;
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorSearchService;
 import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.ProfessorService;
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetResponse;
+import com.champsoft.universitydepartmentsystem.DTO.BulkImportResponse;
+import com.champsoft.universitydepartmentsystem.DTO.CompactProfessorPage;
+import com.champsoft.universitydepartmentsystem.DTO.CursorPageResponse;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorDeleteResponse;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorPageRequest;
 import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
 import com.champsoft.universitydepartmentsystem.DTO.ProfessorResponseModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchResult;
+import com.champsoft.universitydepartmentsystem.config.AsyncReadExecutor;
+import com.champsoft.universitydepartmentsystem.utilities.BadRequestException;
+import com.champsoft.universitydepartmentsystem.utilities.JsonMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 // R1: 3-Layer architecture: Controller layer
 // R4: Follow Java/Spring naming conventions (suffix with Controller)
@@ -22,17 +47,67 @@ import java.util.List;
 public class ProfessorController {
 
     private final ProfessorService professorService;
+    private final ProfessorImportService professorImportService;
+    private final ProfessorExportService professorExportService;
+    private final ProfessorSearchService professorSearchService;
+    private final AsyncReadExecutor readExecutor;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    // R6, R10: GET all -> 200 OK
+    // Reads go through the AsyncReadExecutor (see there for the read pool and its limits).
+
+    // R6, R10: GET all -> 200 OK, keyset paginated (?limit=&cursor=&sort=) with optional filters
     @GetMapping
-    public List<ProfessorResponseModel> getAll() {
-        return professorService.findAll();
+    public CompletableFuture<CursorPageResponse<ProfessorResponseModel>> getAll(@Valid ProfessorPageRequest request) {
+        return readExecutor.submit("professors.list", () -> professorService.findPage(request));
+    }
+
+    // GET /api/professors?view=compact -> 200 OK, the same page with each department listed once in "departments"
+    // and professors referencing it by departmentId (smaller payload for large listings)
+    @GetMapping(params = "view=compact")
+    public CompletableFuture<CompactProfessorPage> getAllCompact(@Valid ProfessorPageRequest request) {
+        return readExecutor.submit("professors.list", () -> professorService.findCompactPage(request));
+    }
+
+    // GET /api/professors?ids=1,2,3 -> 200 OK, batch lookup in request order with missingIds (max 500 ids)
+    @GetMapping(params = "ids")
+    public CompletableFuture<BatchGetResponse<ProfessorResponseModel>> getByIds(@RequestParam List<Long> ids) {
+        return readExecutor.submit("professors.batch-get", () -> professorService.findByIds(ids));
+    }
+
+    // GET /api/professors/search?q=&limit= -> 200 OK, ranked prefix search over names, email and title.
+    // Served from memory, so it runs inline instead of queueing behind database reads.
+    @GetMapping("/search")
+    public List<ProfessorSearchResult> search(@Valid ProfessorSearchRequest request) {
+        return professorSearchService.search(request);
+    }
+
+    // GET /api/professors/export?format=ndjson|csv -> 200 OK, full directory streamed row by row
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        ProfessorExportService.Format exportFormat;
+        try {
+            exportFormat = ProfessorExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Format must be one of: ndjson, csv.");
+        }
+
+        MediaType contentType = exportFormat == ProfessorExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String fileName = "professors." + exportFormat.name().toLowerCase(Locale.ROOT);
+
+        StreamingResponseBody body = outputStream -> professorExportService.exportDirectory(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
     }
 
     // R6, R10: GET one by id -> 200 OK (or 404 Not Found handled by @ControllerAdvice)
     @GetMapping("/{id}")
-    public ProfessorResponseModel getById(@PathVariable Long id) {
-        return professorService.findById(id);
+    public CompletableFuture<ProfessorResponseModel> getById(@PathVariable Long id) {
+        return readExecutor.submit("professors.get", () -> professorService.findById(id));
     }
 
     // R6, R10: POST -> 201 Created with Location header. R57: Validation errors -> 400 Bad Request.
@@ -47,6 +122,13 @@ public class ProfessorController {
                 .body(created);
     }
 
+    // POST /api/professors/bulk -> 200 OK with a per-row report.
+    // Body is a JSON array (application/json) or one object per line (application/x-ndjson); it is read as a stream.
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkImportResponse bulkCreate(HttpServletRequest request) throws IOException {
+        return professorImportService.importProfessors(request.getInputStream());
+    }
+
     // R6, R10: PUT -> 200 OK (or 404/400)
     @PutMapping("/{id}")
     public ProfessorResponseModel update(@PathVariable Long id, @Valid @RequestBody ProfessorRequestModel req) {
@@ -54,6 +136,12 @@ public class ProfessorController {
         return professorService.update(id, req);
     }
 
+    // PATCH -> 200 OK (or 404/400/409). JSON Merge Patch: only the members sent are changed, null clears a member.
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ProfessorResponseModel patch(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return professorService.patch(id, new JsonMergePatch(patch, objectMapper, validator));
+    }
+
     // R6, R10: DELETE -> 204 No Content (or 404)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT) // R10: 204 No Content on successful DELETE.
@@ -61,5 +149,11 @@ public class ProfessorController {
         professorService.delete(id);
     }
 
+    // DELETE /api/professors?ids=1,2,3 -> 200 OK with the number deleted and the ids that did not exist (max 500 ids)
+    @DeleteMapping(params = "ids")
+    public ProfessorDeleteResponse deleteByIds(@RequestParam List<Long> ids) {
+        return professorService.deleteByIds(ids);
+    }
+
     // NOTE: Aggregated endpoint GET /api/professors/{id}/department was removed per user request.
 }
@@ -0,0 +1,61 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// Async read mode settings bound from app.async.* and validated at startup (see AsyncReadExecutor).
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncProperties {
+
+    // Off: read handlers run on the servlet thread as before
+    private boolean enabled = false;
+
+    // Worker threads of the dedicated read executor; keep it at or below the connection pool size
+    @Min(1)
+    private int poolSize = 8;
+
+    // Reads waiting for a worker; once full, new reads are rejected with 503
+    @Min(0)
+    private int queueCapacity = 100;
+
+    // Concurrent reads (running or queued) per endpoint, unless overridden in endpointLimits
+    @Min(1)
+    private int defaultEndpointLimit = 32;
+
+    // Per-endpoint overrides, keyed by endpoint name (e.g. app.async.endpoint-limits[departments.professors]=8)
+    private Map<String, Integer> endpointLimits = new HashMap<>();
+
+    // A read not finished within this time is answered with 503
+    @NotNull
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    // Value of the Retry-After header on shed requests
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @AssertTrue(message = "app.async.endpoint-limits values must be at least 1")
+    public boolean isEndpointLimitsValid() {
+        return endpointLimits.values().stream().allMatch(limit -> limit != null && limit >= 1);
+    }
+
+    @AssertTrue(message = "app.async.request-timeout must be positive")
+    public boolean isRequestTimeoutValid() {
+        return requestTimeout != null && !requestTimeout.isNegative() && !requestTimeout.isZero();
+    }
+
+    public int limitFor(String endpoint) {
+        return endpointLimits.getOrDefault(endpoint, defaultEndpointLimit);
+    }
+}
@@ -0,0 +1,124 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.utilities.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Runs read handlers off the servlet threads when app.async.enabled=true, so a slow database ties up
+// a bounded pool of workers instead of every Tomcat thread.
+// Backpressure: each endpoint has a concurrency limit (semaphore, never waits) and the executor queue is bounded;
+// a read over either limit, or one that exceeds the request timeout, fails fast with 503 + Retry-After.
+// Metrics: executor.* (tag name=reads), async.reads.in.flight and async.reads.rejected (tags endpoint, reason).
+// When disabled the action runs inline and the returned future is already complete.
+@Component
+@EnableConfigurationProperties(AsyncProperties.class)
+public class AsyncReadExecutor implements DisposableBean {
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+
+    public AsyncReadExecutor(AsyncProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.executor = properties.isEnabled() ? createExecutor(properties, meterRegistry) : null;
+    }
+
+    /**
+     * Runs action for the given endpoint, on the read executor when async mode is enabled.
+     * Throws ServiceUnavailableException (503) when the endpoint limit or the executor queue is full;
+     * the returned future fails with it when the read exceeds app.async.request-timeout.
+     */
+    public <T> CompletableFuture<T> submit(String endpoint, Supplier<T> action) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(action.get());
+        }
+
+        Semaphore permits = endpointPermits.computeIfAbsent(endpoint, this::registerEndpoint);
+        if (!permits.tryAcquire()) {
+            throw reject(endpoint, "concurrency_limit");
+        }
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(SqlStatementCounter.propagate(action), executor);
+        } catch (RejectedExecutionException ex) {
+            permits.release();
+            throw reject(endpoint, "queue_full");
+        }
+        // The permit is held until the work itself ends, even if the client was already answered with a timeout
+        future.whenComplete((value, ex) -> permits.release());
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.orTimeout(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, ex) -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause == null) {
+                        result.complete(value);
+                    } else if (cause instanceof TimeoutException) {
+                        result.completeExceptionally(reject(endpoint, "timeout"));
+                    } else {
+                        result.completeExceptionally(cause);
+                    }
+                });
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private Semaphore registerEndpoint(String endpoint) {
+        int limit = properties.limitFor(endpoint);
+        Semaphore permits = new Semaphore(limit);
+        Gauge.builder("async.reads.in.flight", permits, p -> limit - p.availablePermits())
+                .description("Reads of the endpoint running or queued on the async read executor")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return permits;
+    }
+
+    private ServiceUnavailableException reject(String endpoint, String reason) {
+        Counter.builder("async.reads.rejected")
+                .description("Reads shed by the async read executor")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new ServiceUnavailableException("The server is busy, please retry later.", properties.getRetryAfter());
+    }
+
+    private static ExecutorService createExecutor(AsyncProperties properties, MeterRegistry meterRegistry) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                properties.getPoolSize(), properties.getPoolSize(), 60, TimeUnit.SECONDS,
+                properties.getQueueCapacity() > 0
+                        ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                        : new SynchronousQueue<>(),
+                new CustomizableThreadFactory("async-read-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, pool, "reads");
+    }
+}
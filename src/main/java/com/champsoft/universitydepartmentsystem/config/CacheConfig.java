@@ -0,0 +1,20 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Enables Spring's cache abstraction. The Caffeine cache manager itself (size/TTL spec and
+// cache names) is auto-configured from the spring.cache.* properties.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // id -> DepartmentResponseModel
+    public static final String DEPARTMENTS = "departments";
+
+    // id -> DepartmentSummary (used when attaching professors to a department)
+    public static final String DEPARTMENT_SUMMARIES = "departmentSummaries";
+
+    // DepartmentPageRequest -> CursorPageResponse<DepartmentResponseModel>
+    public static final String DEPARTMENT_PAGES = "departmentPages";
+}
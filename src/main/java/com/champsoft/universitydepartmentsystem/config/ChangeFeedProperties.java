@@ -0,0 +1,57 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+// Change feed settings bound from app.changes.* and validated at startup (see ChangeFeedService).
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.changes")
+public class ChangeFeedProperties {
+
+    // How often committed outbox rows of any node are numbered and pushed to waiting consumers.
+    // Writes on this node trigger it right after their commit as well.
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // Outbox rows numbered per transaction
+    @Min(1)
+    private int sequenceBatchSize = 1000;
+
+    // Changes older than this are deleted; consumers further behind get resyncRequired
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+
+    @NotNull
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    // Open GET /api/changes/stream connections on this node; more are refused with 503
+    @Min(1)
+    private int maxSubscribers = 100;
+
+    // A stream is closed after this long (clients reconnect with Last-Event-ID)
+    @NotNull
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    // Comment line sent on idle streams, so proxies keep them open and dead clients are noticed
+    @NotNull
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    @AssertTrue(message = "app.changes intervals, retention and stream timeout must be positive")
+    public boolean isDurationsValid() {
+        return isPositive(pollInterval) && isPositive(retention) && isPositive(purgeInterval)
+                && isPositive(streamTimeout) && isPositive(heartbeatInterval);
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+}
@@ -0,0 +1,66 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Samples how long requests waited for a database connection, from the hikaricp.connections.acquire timers
+// of all pools (primary and replicas), as the average over the last sampling interval. RateLimitFilter
+// sheds reads while it is above app.rate-limit.shedding.max-connection-wait.
+// Exposed as ratelimit.connection.wait (seconds).
+@Component
+public class ConnectionPoolMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private long lastCount;
+    private double lastTotalNanos;
+    private long lastSampleNanos = System.nanoTime();
+    private volatile long recentWaitNanos;
+
+    public ConnectionPoolMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ratelimit.connection.wait", this, monitor -> monitor.recentWaitNanos / 1e9)
+                .description("Average connection pool wait over the last sampling interval")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public Duration getRecentWait() {
+        return Duration.ofNanos(recentWaitNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.shedding.sample-interval:PT1S}")
+    public synchronized void sample() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        long acquired = count - lastCount;
+        double waited = totalNanos - lastTotalNanos;
+        long now = System.nanoTime();
+        long interval = now - lastSampleNanos;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        lastSampleNanos = now;
+
+        if (acquired > 0) {
+            recentWaitNanos = (long) (waited / acquired);
+        } else {
+            // No connection handed out: idle, or exhausted with requests queued the whole interval
+            recentWaitNanos = pendingConnections() > 0 ? interval : 0;
+        }
+    }
+
+    private double pendingConnections() {
+        return meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+}
@@ -0,0 +1,273 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.utilities.BadRequestException;
+import com.champsoft.universitydepartmentsystem.utilities.ConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Set;
+
+// Makes retried writes safe: a POST/PUT/PATCH/DELETE under /api carrying an Idempotency-Key header is executed once,
+// and a retry with the same key, method and path from the same client (trusted API key, else IP, as for rate
+// limiting) within app.idempotency.ttl gets the stored response replayed (with Idempotent-Replayed: true) instead
+// of running again. Keys are scoped per client, so two clients picking the same key never see each other's responses.
+// - a retry while the first request is still running gets 409, so it never executes in parallel
+// - the same key with a different body gets 400: keys identify one request, not a slot to reuse
+// - 5xx responses (and requests that fail with an exception) are not stored, so the client may retry them
+// Responses live in a bounded Caffeine cache on this node; behind a load balancer, route retries with sticky sessions.
+// Metrics: idempotency.replayed, idempotency.entries.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // Not in non-web contexts (benchmarks)
+@Order(Ordered.HIGHEST_PRECEDENCE + 20) // After the rate limiter, so replays still count against the client's budget
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class})
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final RateLimitProperties rateLimitProperties;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Cache<ResponseKey, Entry> responses;
+    private final Counter replayedCounter;
+
+    public IdempotencyFilter(IdempotencyProperties properties,
+                             RateLimitProperties rateLimitProperties,
+                             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimitProperties = rateLimitProperties;
+        this.exceptionResolver = exceptionResolver;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.replayedCounter = Counter.builder("idempotency.replayed")
+                .description("Retried writes answered with the stored response")
+                .register(meterRegistry);
+        Gauge.builder("idempotency.entries", responses, Cache::estimatedSize)
+                .description("Idempotency keys held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/")
+                || request.getHeader(properties.getHeader()) == null;
+    }
+
+    // Write endpoints answer synchronously, so the response is complete when the chain returns
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(properties.getHeader()).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            reject(request, response, new BadRequestException(
+                    properties.getHeader() + " must be between 1 and " + MAX_KEY_LENGTH + " characters."));
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            reject(request, response, new BadRequestException(properties.getHeader()
+                    + " is not supported for request bodies over " + properties.getMaxBodySize().toKilobytes() + " KB."));
+            return;
+        }
+
+        ResponseKey responseKey = new ResponseKey(RateLimitFilter.clientKey(request, rateLimitProperties),
+                request.getMethod(), request.getRequestURI(), key);
+        Entry started = new Entry(fingerprint(request, body));
+        Entry existing = responses.asMap().putIfAbsent(responseKey, started);
+        if (existing != null) {
+            if (!Arrays.equals(existing.fingerprint(), started.fingerprint())) {
+                reject(request, response, new BadRequestException(
+                        properties.getHeader() + " was already used for a different request."));
+            } else if (existing.response() == null) {
+                reject(request, response, new ConflictException(
+                        "A request with this " + properties.getHeader() + " is still being processed."));
+            } else {
+                replayedCounter.increment();
+                existing.response().writeTo(response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+            if (responseWrapper.getStatus() < 500
+                    && responseWrapper.getContentSize() <= properties.getMaxBodySize().toBytes()) {
+                responses.put(responseKey, new Entry(started.fingerprint(), StoredResponse.of(responseWrapper)));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                responses.asMap().remove(responseKey, started);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    // The request body, or null when it is over app.idempotency.max-body-size
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long max = properties.getMaxBodySize().toBytes();
+        if (request.getContentLengthLong() > max) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes((int) max + 1);
+        return body.length > max ? null : body;
+    }
+
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (request.getQueryString() != null) {
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // Writes the rejection through the @ControllerAdvice, as if a controller had thrown it
+    private void reject(HttpServletRequest request, HttpServletResponse response, RuntimeException ex) throws IOException {
+        if (exceptionResolver.resolveException(request, response, null, ex) == null) {
+            response.sendError(ex instanceof ConflictException ? 409 : 400, ex.getMessage());
+        }
+    }
+
+    private record ResponseKey(String client, String method, String path, String key) {
+    }
+
+    // response is null while the first request with the key is running
+    private record Entry(byte[] fingerprint, StoredResponse response) {
+
+        Entry(byte[] fingerprint) {
+            this(fingerprint, null);
+        }
+    }
+
+    private record StoredResponse(int status, String contentType, String location, String eTag, byte[] body) {
+
+        static StoredResponse of(ContentCachingResponseWrapper response) {
+            return new StoredResponse(response.getStatus(), response.getContentType(),
+                    response.getHeader(HttpHeaders.LOCATION), response.getHeader(HttpHeaders.ETAG),
+                    response.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            if (location != null) {
+                response.setHeader(HttpHeaders.LOCATION, location);
+            }
+            if (eTag != null) {
+                response.setHeader(HttpHeaders.ETAG, eTag);
+            }
+            response.setHeader("Idempotent-Replayed", "true");
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    // The already read body served again to the handler
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The body is already in memory: all of it is available right away
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+// Idempotency-Key settings bound from app.idempotency.* and validated at startup (see IdempotencyFilter).
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    // Off: the header is ignored and every retry is executed again
+    private boolean enabled = true;
+
+    @NotBlank
+    private String header = "Idempotency-Key";
+
+    // How long a response is replayed for retries with the same key
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // Responses kept in memory; beyond it the least recently used are dropped
+    @Min(1)
+    private long maxEntries = 10_000;
+
+    // Larger request or response bodies are not cached: the request is rejected with 400 when it carries a key
+    @NotNull
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+    @AssertTrue(message = "app.idempotency.ttl and max-body-size must be positive")
+    public boolean isLimitsValid() {
+        return ttl != null && !ttl.isNegative() && !ttl.isZero() && maxBodySize != null && maxBodySize.toBytes() > 0;
+    }
+}
@@ -0,0 +1,189 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.utilities.ServiceUnavailableException;
+import com.champsoft.universitydepartmentsystem.utilities.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// Protects the API (and the connection pool behind it) from clients sending more than their share:
+// - rate limiting: a token bucket per client (trusted API key, else IP) and route; an empty bucket answers 429
+// - load shedding: over app.rate-limit.shedding.max-in-flight concurrent requests, or while the connection pool
+//   wait is above max-connection-wait (reads only, writes keep going), new requests get 503
+// Both carry Retry-After and the usual ErrorResponse body: the exceptions go through GlobalExceptionHandler.
+// Buckets live in a bounded Caffeine cache and are lock-free (see TokenBucket).
+// Metrics: ratelimit.rejected (tags route, reason), ratelimit.in.flight, ratelimit.buckets.
+// With async reads enabled, in-flight counts requests until their handler returns the future.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // Not in non-web contexts (benchmarks)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // After the observation filter, so throttled requests show in http.server.requests
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String DEFAULT_ROUTE = "default";
+
+    private final RateLimitProperties properties;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final MeterRegistry meterRegistry;
+    private final List<RouteLimit> routes;
+    private final RouteLimit defaultRoute;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           ConnectionPoolMonitor connectionPoolMonitor,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.exceptionResolver = exceptionResolver;
+        this.meterRegistry = meterRegistry;
+        this.routes = parseRoutes(properties.getRoutes());
+        this.defaultRoute = new RouteLimit(DEFAULT_ROUTE, null, Set.of(), properties.getDefaultLimit());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getBucketIdleTimeout())
+                .build();
+
+        Gauge.builder("ratelimit.in.flight", inFlight, AtomicInteger::get)
+                .description("API requests being processed")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.buckets", buckets, Cache::estimatedSize)
+                .description("Client rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteLimit route = routeFor(request);
+        long now = System.nanoTime();
+        long waitNanos = buckets.get(new BucketKey(route.name(), clientKey(request, properties)), key -> route.newBucket(now))
+                .tryAcquire(now);
+        if (waitNanos > 0) {
+            reject(request, response, route, "rate_limit", new TooManyRequestsException(
+                    "Rate limit exceeded, please slow down.", Duration.ofNanos(waitNanos)));
+            return;
+        }
+
+        RateLimitProperties.Shedding shedding = properties.getShedding();
+        if (!shedding.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if ("GET".equals(request.getMethod())
+                && connectionPoolMonitor.getRecentWait().compareTo(shedding.getMaxConnectionWait()) > 0) {
+            reject(request, response, route, "connection_wait", new ServiceUnavailableException(
+                    "The service is overloaded, please retry later.", shedding.getRetryAfter()));
+            return;
+        }
+        if (inFlight.incrementAndGet() > shedding.getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            reject(request, response, route, "in_flight", new ServiceUnavailableException(
+                    "The service is overloaded, please retry later.", shedding.getRetryAfter()));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // Most specific matching route first (PathPattern specificity), the default limit when none matches
+    private RouteLimit routeFor(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteLimit route : routes) {
+            if ((route.methods().isEmpty() || route.methods().contains(request.getMethod()))
+                    && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return defaultRoute;
+    }
+
+    // The trusted API key, else the client IP; IdempotencyFilter scopes its keys by it too
+    static String clientKey(HttpServletRequest request, RateLimitProperties properties) {
+        String apiKey = request.getHeader(properties.getApiKeyHeader());
+        if (apiKey != null && properties.getApiKeys().contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        // Behind a proxy set server.forward-headers-strategy so this is the client address, not the proxy's
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // Writes the rejection through the @ControllerAdvice, as if a controller had thrown it
+    private void reject(HttpServletRequest request, HttpServletResponse response, RouteLimit route, String reason,
+                        RuntimeException ex) throws IOException {
+        rejectedCounters.computeIfAbsent(route.name() + '|' + reason, key -> Counter.builder("ratelimit.rejected")
+                        .description("API requests rejected by the rate limiter or shed under load")
+                        .tag("route", route.name())
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        logger.debug("Rejected {} {} ({}): {}", request.getMethod(), request.getRequestURI(), route.name(), reason);
+        if (exceptionResolver.resolveException(request, response, null, ex) == null) {
+            response.sendError(ex instanceof TooManyRequestsException ? 429 : 503, ex.getMessage());
+        }
+    }
+
+    private static List<RouteLimit> parseRoutes(Map<String, RateLimitProperties.Route> configured) {
+        PathPatternParser parser = new PathPatternParser();
+        List<RouteLimit> routes = new ArrayList<>();
+        configured.forEach((name, route) -> routes.add(new RouteLimit(name, parser.parse(route.getPattern()),
+                route.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toSet()),
+                route)));
+        routes.sort(Comparator.comparing(RouteLimit::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        return List.copyOf(routes);
+    }
+
+    private record RouteLimit(String name, PathPattern pattern, Set<String> methods, RateLimitProperties.Limit limit) {
+
+        TokenBucket newBucket(long nowNanos) {
+            return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), nowNanos);
+        }
+    }
+
+    private record BucketKey(String route, String client) {
+    }
+}
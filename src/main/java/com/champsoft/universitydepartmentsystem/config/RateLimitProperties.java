@@ -0,0 +1,110 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Rate limiting and load shedding settings bound from app.rate-limit.* and validated at startup (see RateLimitFilter).
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    // Off: no request under /api is limited or shed
+    private boolean enabled = true;
+
+    // Header carrying an API key. Only keys listed in apiKeys get a bucket of their own,
+    // any other request is limited by client IP (so made-up keys cannot multiply a client's budget)
+    @NotBlank
+    private String apiKeyHeader = "X-API-Key";
+
+    private Set<String> apiKeys = new HashSet<>();
+
+    // Bucket of every client on routes without an entry in routes
+    @Valid
+    @NotNull
+    private Limit defaultLimit = new Limit();
+
+    // Per-route buckets keyed by route name, e.g. app.rate-limit.routes.professors-list.pattern=/api/professors.
+    // A request uses the most specific matching pattern whose methods (empty = all) include its method.
+    @Valid
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    // Client/route buckets kept in memory; beyond it the least recently used are dropped
+    @Min(1)
+    private long maxBuckets = 100_000;
+
+    // A bucket unused for this long is dropped (it would be full again by then)
+    @NotNull
+    private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+
+    @Valid
+    @NotNull
+    private Shedding shedding = new Shedding();
+
+    @AssertTrue(message = "app.rate-limit.bucket-idle-timeout must be positive")
+    public boolean isBucketIdleTimeoutValid() {
+        return bucketIdleTimeout != null && !bucketIdleTimeout.isNegative() && !bucketIdleTimeout.isZero();
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        // Burst size: requests a client can send at once after being idle
+        @Min(1)
+        private long capacity = 100;
+
+        // Sustained rate: tokens added back per second
+        @Positive
+        private double refillPerSecond = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Route extends Limit {
+
+        // Path pattern in Spring MVC syntax, e.g. /api/professors/{id}
+        @NotBlank
+        private String pattern;
+
+        private Set<String> methods = new HashSet<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Shedding {
+
+        private boolean enabled = true;
+
+        // Requests under /api being processed at once on this node; beyond it new ones get 503
+        @Min(1)
+        private int maxInFlight = 200;
+
+        // Average connection pool wait over the last sample above which reads (GET) get 503 until it recovers
+        @NotNull
+        private Duration maxConnectionWait = Duration.ofMillis(250);
+
+        // How often the connection wait is sampled (see ConnectionPoolMonitor)
+        @NotNull
+        private Duration sampleInterval = Duration.ofSeconds(1);
+
+        // Value of the Retry-After header on shed requests
+        @NotNull
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
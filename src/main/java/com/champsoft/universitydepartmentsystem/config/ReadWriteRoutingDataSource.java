@@ -0,0 +1,179 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Sends connections of read-only transactions (@Transactional(readOnly = true)) to the replicas, round robin,
+// and everything else to the primary.
+// The physical connection is fetched lazily, on the first statement: by then the transaction manager has published
+// the read-only flag, which is not yet the case when JPA opens its transaction.
+// A replica that fails to hand out a connection, or fails the periodic health check, is skipped until a later
+// check passes; with no healthy replica, reads use the primary.
+// Metrics: datasource.replica.healthy (tag replica) and datasource.routed.connections (tag target).
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final ScheduledExecutorService healthChecks;
+    private final int validationTimeoutSeconds;
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter connections;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource, Counter connections) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = connections;
+        }
+    }
+
+    /**
+     * @param replicas replica pools by name (used as metric tag), in routing order
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      Duration healthCheckInterval, Duration validationTimeout,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        this.primaryConnections = Counter.builder("datasource.routed.connections")
+                .description("Connections handed out per routing target")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        new LinkedHashMap<>(replicas).forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, Counter.builder("datasource.routed.connections")
+                    .description("Connections handed out per routing target")
+                    .tag("target", name)
+                    .register(meterRegistry));
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 while the replica receives read-only transactions, 0 while it is skipped")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+
+        setTargetDataSource(new Router());
+        // Known defaults, so the proxy never opens a connection just to read them
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Validates one connection of every replica and updates which replicas receive reads.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException ex) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                replica.healthy = healthy;
+                if (healthy) {
+                    logger.info("Replica '{}' is healthy again; read-only transactions use it.", replica.name);
+                } else {
+                    logger.warn("Replica '{}' failed its health check; read-only transactions use other targets.", replica.name);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecks.shutdownNow();
+        for (DataSource dataSource : allTargets()) {
+            if (dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    logger.warn("Failed to close data source: {}", ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<DataSource> allTargets() {
+        List<DataSource> targets = new ArrayList<>();
+        targets.add(primary);
+        replicas.forEach(replica -> targets.add(replica.dataSource));
+        return targets;
+    }
+
+    // Picks the target when the lazy proxy needs a physical connection
+    private final class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                Connection connection = replicaConnection();
+                if (connection != null) {
+                    return connection;
+                }
+            }
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("Per-call credentials are not supported by the routing data source");
+        }
+
+        // Next healthy replica in turn; one that cannot hand out a connection is marked down and the next is tried
+        private Connection replicaConnection() {
+            int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, replicas.size()));
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.connections.increment();
+                    return connection;
+                } catch (SQLException ex) {
+                    replica.healthy = false;
+                    ReadWriteRoutingDataSource.logger.warn("Replica '{}' failed to provide a connection, marked down until its next health check: {}",
+                            replica.name, ex.getMessage());
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+// Records how many SQL statements each API request executed (http.server.requests.sql.statements,
+// tagged by route) and logs requests slower than app.metrics.slow-request-threshold with that count.
+// Async reads and streaming responses are recorded when the response completes, with the statements their
+// AsyncReadExecutor task or StreamingResponseBody ran (see SqlStatementCounter).
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENT_COUNT_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".statements";
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowRequestThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${app.metrics.slow-request-threshold:500ms}") Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThreshold = slowRequestThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LongAdder statements = new LongAdder();
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+        long start = System.nanoTime();
+        SqlStatementCounter.bind(statements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.bind(null);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, statements, start));
+            } else {
+                record(request, response, statements.sum(), start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long statements, long start) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (elapsed.compareTo(slowRequestThreshold) > 0) {
+            logger.warn("Slow request {} {} ({}): {} ms, {} SQL statements, status {}",
+                    request.getMethod(), request.getRequestURI(), uri, elapsed.toMillis(), statements,
+                    response.getStatus());
+        }
+    }
+
+    // Records an async request once its response is complete (onComplete also follows a timeout or an error)
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final LongAdder statements;
+        private final long start;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, LongAdder statements, long start) {
+            this.request = request;
+            this.response = response;
+            this.statements = statements;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, statements.sum(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
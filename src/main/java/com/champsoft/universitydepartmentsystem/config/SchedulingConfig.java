@@ -0,0 +1,10 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs (see ProfessorCountReconciler)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,36 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.validation.annotation.Validated;
+
+// Startup data loading bound from app.seed.* (see SeedDataLoader).
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    // Off: nothing is read or inserted at startup
+    private boolean enabled = true;
+
+    // CSV with header name,code,yearEstablished
+    @NotNull
+    private Resource departments;
+
+    // CSV with header firstName,lastName,email,title,departmentCode
+    @NotNull
+    private Resource professors;
+
+    // Generated professors added on top of the CSV rows, for load tests (e.g. 1000000); 0 disables generation
+    @Min(0)
+    private int syntheticProfessors = 0;
+
+    // Rows per JDBC batch / transaction
+    @Min(1)
+    private int batchSize = 1000;
+}
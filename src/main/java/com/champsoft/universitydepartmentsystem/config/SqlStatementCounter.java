@@ -0,0 +1,68 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Hibernate StatementInspector that counts the SQL statements prepared for the request the current thread works on.
+// RequestMetricsFilter binds a count to the request thread; AsyncReadExecutor tasks (propagate) and streaming
+// response bodies (CallableInterceptor) carry it onto the threads they run on. Other threads are not counted.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<LongAdder> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LongAdder count = COUNT.get();
+        if (count != null) {
+            count.increment();
+        }
+        return sql;
+    }
+
+    // Binds count (null to unbind) to the current thread
+    static void bind(LongAdder count) {
+        if (count == null) {
+            COUNT.remove();
+        } else {
+            COUNT.set(count);
+        }
+    }
+
+    // Wraps action so that it counts against the current thread's request wherever it runs
+    public static <T> Supplier<T> propagate(Supplier<T> action) {
+        LongAdder count = COUNT.get();
+        if (count == null) {
+            return action;
+        }
+        return () -> {
+            bind(count);
+            try {
+                return action.get();
+            } finally {
+                bind(null);
+            }
+        };
+    }
+
+    // Binds the request's count (RequestMetricsFilter.STATEMENT_COUNT_ATTRIBUTE) while a Callable or
+    // StreamingResponseBody runs on the MVC task executor
+    static class CallableInterceptor implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            bind((LongAdder) request.getAttribute(RequestMetricsFilter.STATEMENT_COUNT_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST));
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            bind(null);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free token bucket kept as a single "theoretical arrival time" (the GCRA form of a token bucket):
+// each request moves it one emission interval ahead and is refused when it would run more than
+// capacity intervals ahead of now. Concurrent requests race on one compare-and-set, no lock is held.
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, Math.round(1_000_000_000d / refillPerSecond));
+        this.burstNanos = Math.multiplyExact(capacity, emissionIntervalNanos);
+        this.theoreticalArrival = new AtomicLong(nowNanos); // Starts full
+    }
+
+    /**
+     * Takes one token. Returns 0 if it was available, otherwise the nanoseconds until the next token.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Custom exception for malformed request input (e.g. an invalid paging cursor), mapped to HTTP 400 by @ControllerAdvice.
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// Normalises the id list of a batch-get: removes duplicates while keeping the request order and enforces the size limit.
+public final class BatchIds {
+
+    private BatchIds() {
+    }
+
+    /**
+     * Returns the distinct ids in first-occurrence order.
+     * Throws BadRequestException if the list is empty, contains null or exceeds BatchGetRequest.MAX_IDS distinct ids.
+     */
+    public static List<Long> distinct(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("At least one id is required.");
+        }
+        LinkedHashSet<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.contains(null)) {
+            throw new BadRequestException("Ids cannot be null.");
+        }
+        if (distinct.size() > BatchGetRequest.MAX_IDS) {
+            throw new BadRequestException("At most " + BatchGetRequest.MAX_IDS + " ids can be requested at once.");
+        }
+        return new ArrayList<>(distinct);
+    }
+}
@@ -0,0 +1,13 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Custom exception for requests that conflict with the current state of a resource, mapped to HTTP 409 by @ControllerAdvice.
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+// Conditional GET on a precomputed ETag: answers 304 without building the body when If-None-Match matches.
+// Works on any thread, so handlers running on the async read executor can use it as well.
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Returns 304 Not Modified when ifNoneMatch matches etag, otherwise 200 OK with the body supplied by body.
+     * Both responses carry the ETag header. If-None-Match uses the weak comparison (RFC 9110), "*" matches any ETag.
+     */
+    public static <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+// Body of a PATCH request (application/merge-patch+json, RFC 7396): the members to change,
+// null to clear a member, everything else left as is.
+// Built by the controller with the web layer's ObjectMapper and Validator, so the services need neither.
+public class JsonMergePatch {
+
+    private final ObjectNode patch;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public JsonMergePatch(JsonNode patch, ObjectMapper objectMapper, Validator validator) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object.");
+        }
+        this.patch = (ObjectNode) patch;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Returns a copy of target with this patch applied, validated like a request body; target itself is not modified.
+     * Throws BadRequestException when a patched member has the wrong type,
+     * ConstraintViolationException when the patched object is invalid.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T applyTo(T target) {
+        JsonNode merged = merge(objectMapper.valueToTree(target), patch);
+        T patched;
+        try {
+            patched = (T) objectMapper.treeToValue(merged, target.getClass());
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Invalid merge patch: " + ex.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return patched;
+    }
+
+    private static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? ((ObjectNode) target).deepCopy() : JsonNodeFactory.instance.objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> member = it.next();
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), merge(result.get(member.getKey()), member.getValue()));
+            }
+        }
+        return result;
+    }
+}
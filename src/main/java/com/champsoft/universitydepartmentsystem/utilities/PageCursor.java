@@ -0,0 +1,45 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset cursor: the sort key and id of the last row of a page, encoded as URL-safe Base64.
+// The sort name is part of the cursor so a cursor issued for one ordering cannot be replayed against another.
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sort;
+    private final Long id;
+    private final String key; // Value of the sort column for the last row (null when sorting by id)
+
+    public String encode() {
+        String raw = sort + SEPARATOR + id + SEPARATOR + (key != null ? key : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned as nextCursor. Returns null for a missing cursor (first page).
+     * Throws BadRequestException if the cursor is malformed or was issued for a different sort order.
+     */
+    public static PageCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new BadRequestException("Cursor does not match the requested sort order.");
+            }
+            return new PageCursor(parts[0], Long.valueOf(parts[1]), parts[2].isEmpty() ? null : parts[2]);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid paging cursor.");
+        }
+    }
+}
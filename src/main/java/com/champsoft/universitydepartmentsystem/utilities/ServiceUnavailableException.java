@@ -0,0 +1,21 @@
+package com.champsoft.universitydepartmentsystem.utilities;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+// Custom exception for requests shed under load (queue full, concurrency limit reached, timed out),
+// mapped to HTTP 503 with a Retry-After header by @ControllerAdvice.
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,85 @@
+-- Baseline schema: departments, professors, their id sequences and the indexes the read paths rely on.
+-- Written to be re-runnable: databases created by the former ddl-auto=update are baselined at version 0,
+-- so this script also runs on them and only adds or renames what is missing.
+
+-- Ids come from pooled sequences instead of identity columns: Hibernate fetches 50 ids per round trip and can
+-- batch inserts (of departments, professors and their change events). The increment must match allocationSize (50)
+-- of the @SequenceGenerator.
+create sequence if not exists department_seq start with 1 increment by 50;
+create sequence if not exists professor_seq start with 1 increment by 50;
+
+create table if not exists department (
+    id               bigint       not null,
+    name             varchar(255) not null,
+    code             varchar(255) not null,
+    year_established integer,
+    version          bigint       not null default 0,
+    constraint pk_department primary key (id)
+);
+
+create table if not exists professor (
+    id            bigint       not null,
+    first_name    varchar(255) not null,
+    last_name     varchar(255) not null,
+    email         varchar(255) not null,
+    title         varchar(255),
+    version       bigint       not null default 0,
+    department_id bigint       not null,
+    constraint pk_professor primary key (id)
+);
+
+-- Columns added after the first ddl-auto schemas were created
+alter table department add column if not exists version bigint not null default 0;
+alter table professor add column if not exists version bigint not null default 0;
+
+-- Unique and foreign key constraints under stable names. ddl-auto named them after a hash of the columns:
+-- an existing constraint on the same columns is renamed instead of duplicated.
+do $$
+declare
+    wanted record;
+    existing text;
+begin
+    for wanted in
+        select * from (values
+            ('department', 'uk_department_name', 'u', 'name'),
+            ('department', 'uk_department_code', 'u', 'code'),
+            ('professor', 'uk_professor_email', 'u', 'email'),
+            ('professor', 'fk_professor_department', 'f', 'department_id')
+        ) as t(table_name, constraint_name, constraint_type, column_name)
+    loop
+        select c.conname into existing
+        from pg_constraint c
+        join pg_attribute a on a.attrelid = c.conrelid and a.attnum = c.conkey[1]
+        where c.conrelid = wanted.table_name::regclass
+          and c.contype = wanted.constraint_type::"char"
+          and array_length(c.conkey, 1) = 1
+          and a.attname = wanted.column_name
+        limit 1;
+
+        if existing is null then
+            if wanted.constraint_type = 'u' then
+                execute format('alter table %I add constraint %I unique (%I)',
+                        wanted.table_name, wanted.constraint_name, wanted.column_name);
+            else
+                execute format('alter table %I add constraint %I foreign key (%I) references department (id)',
+                        wanted.table_name, wanted.constraint_name, wanted.column_name);
+            end if;
+        elsif existing <> wanted.constraint_name then
+            execute format('alter table %I rename constraint %I to %I',
+                    wanted.table_name, existing, wanted.constraint_name);
+        end if;
+    end loop;
+end $$;
+
+-- Keyset listing order (last_name, id) and the department join. The join index also carries
+-- (last_name, id) so a department's professors are read in index order; it covers the plain department_id lookups too.
+create index if not exists idx_professor_last_name_id on professor (last_name, id);
+create index if not exists idx_professor_department_last_name_id on professor (department_id, last_name, id);
+drop index if exists idx_professor_department_id;
+
+-- Rows inserted while ids were IDENTITY columns can be ahead of the sequences:
+-- move each sequence past the highest id so pooled id blocks never collide with existing rows.
+select setval('department_seq', (select max(id) from department) + 50, false)
+where (select last_value from department_seq) <= (select coalesce(max(id), 0) from department);
+select setval('professor_seq', (select max(id) from professor) + 50, false)
+where (select last_value from professor_seq) <= (select coalesce(max(id), 0) from professor);
@@ -0,0 +1,7 @@
+-- Denormalized professor count per department, so department reads no longer count professor rows.
+-- Kept up to date by the application on professor writes; ProfessorCountReconciler repairs any drift.
+alter table department add column if not exists professor_count bigint not null default 0;
+
+update department d
+set professor_count = (select count(*) from professor p where p.department_id = d.id)
+where professor_count <> (select count(*) from professor p where p.department_id = d.id);
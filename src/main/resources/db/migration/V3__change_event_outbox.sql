@@ -0,0 +1,29 @@
+-- Outbox of department/professor changes served by GET /api/changes (see ChangeEvent and ChangeFeedService).
+
+-- Ids come from a pooled sequence: the increment must match allocationSize (50) of the @SequenceGenerator
+create sequence if not exists change_event_seq start with 1 increment by 50;
+
+create table if not exists change_event (
+    id                     bigint      not null,
+    feed_position          bigint,
+    entity_type            varchar(20) not null,
+    entity_id              bigint      not null,
+    change_type            varchar(20) not null,
+    department_id          bigint,
+    previous_department_id bigint,
+    occurred_at            timestamp(6) with time zone not null,
+    constraint pk_change_event primary key (id),
+    constraint uk_change_event_position unique (feed_position)
+);
+
+-- The sequencer scans only the rows still waiting for a position
+create index if not exists idx_change_event_unsequenced on change_event (id) where feed_position is null;
+
+create table if not exists change_feed_state (
+    id             integer not null,
+    last_position  bigint  not null,
+    purged_through bigint  not null,
+    constraint pk_change_feed_state primary key (id)
+);
+
+insert into change_feed_state (id, last_position, purged_through) values (1, 0, 0) on conflict do nothing;
@@ -0,0 +1,10 @@
+-- Case-insensitive last name prefix filter of GET /api/professors?name=&sort=lastName:
+-- lower(last_name) like 'prefix%' order by lower(last_name), id. The (last_name, id) index cannot serve it,
+-- the filter is on lower(last_name).
+-- One ordered range scan needs an operator class that gives both the prefix range and the sort order.
+-- text_pattern_ops gives the range but not the order of ORDER BY. The default operator class gives the order,
+-- but under a linguistic database collation (en_US.UTF-8, ...) LIKE cannot use it as a range.
+-- In the "C" collation it gives both, so last_name moves to "C". Sorting by last name is then byte order
+-- (upper case before lower case), as on databases created with the C collation.
+alter table professor alter column last_name type varchar(255) collate "C";
+create index if not exists idx_professor_lower_last_name_id on professor (lower(last_name), id);
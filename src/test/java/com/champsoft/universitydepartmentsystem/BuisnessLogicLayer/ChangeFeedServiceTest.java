@@ -0,0 +1,168 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedEntry;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ChangeFeedResponse;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
+import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// The outbox rows are written at commit, so these tests run without the test transaction
+// and delete the departments they committed afterwards.
+@DataJpaTest
+@Import({DepartmentService.class, DepartmentMapper.class, ProfessorMapper.class, ProfessorService.class,
+        DepartmentAggregateUpdater.class, ChangeOutboxWriter.class, ChangeFeedService.class,
+        ChangeFeedServiceTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CommittedDepartments committed;
+
+    @BeforeEach
+    void setUp() {
+        committed = new CommittedDepartments(entityManager, transactionManager);
+    }
+
+    @AfterEach
+    void deleteCommittedDepartments() {
+        committed.deleteAll();
+    }
+
+    @Test
+    void poll_returnsCommittedChangesInFeedOrder() throws Exception {
+        long since = currentCursor();
+        Long from = committed.add(departmentService.create(new DepartmentRequestModel("P Department", "P-0", 1990, null)).getId());
+        Long to = committed.add(departmentService.create(new DepartmentRequestModel("P Other", "P-1", 1990, null)).getId());
+        Long professor = professorService.create(new ProfessorRequestModel("Ada", "Lovelace", "p.ada@test.ca", "Lecturer", from, null)).getId();
+        professorService.update(professor, new ProfessorRequestModel("Ada", "Lovelace", "p.ada@test.ca", "Lecturer", to, null));
+        professorService.delete(professor);
+
+        List<ChangeFeedEntry> changes = readUntil(since, 5);
+
+        assertThat(changes)
+                .extracting(ChangeFeedEntry::getEntityType, ChangeFeedEntry::getEntityId, ChangeFeedEntry::getChangeType,
+                        ChangeFeedEntry::getDepartmentId, ChangeFeedEntry::getPreviousDepartmentId)
+                .containsExactly(
+                        tuple("DEPARTMENT", from, "CREATED", null, null),
+                        tuple("DEPARTMENT", to, "CREATED", null, null),
+                        tuple("PROFESSOR", professor, "CREATED", from, null),
+                        tuple("PROFESSOR", professor, "UPDATED", to, from),
+                        tuple("PROFESSOR", professor, "DELETED", to, null));
+        assertThat(changes).extracting(ChangeFeedEntry::getPosition).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void poll_withWait_completesWhenAChangeIsCommitted() throws Exception {
+        long since = currentCursor();
+        CompletableFuture<ChangeFeedResponse> pending = changeFeedService.poll(request(since, 10));
+
+        Long id = committed.add(departmentService.create(new DepartmentRequestModel("Q Department", "Q-0", 1990, null)).getId());
+
+        ChangeFeedResponse response = pending.get(10, TimeUnit.SECONDS);
+        assertThat(response.getChanges())
+                .extracting(ChangeFeedEntry::getEntityId, ChangeFeedEntry::getChangeType)
+                .containsExactly(tuple(id, "CREATED"));
+        assertThat(response.getNextCursor()).isEqualTo(response.getChanges().get(0).getPosition());
+    }
+
+    @Test
+    void poll_withWait_isNoLongerCountedOnceItTimesOut() throws Exception {
+        long since = currentCursor();
+        CompletableFuture<ChangeFeedResponse> pending = changeFeedService.poll(request(since, 1));
+        awaitWaiting(1);
+
+        assertThat(pending.get(5, TimeUnit.SECONDS).getChanges()).isEmpty();
+
+        awaitWaiting(0);
+    }
+
+    // Position after everything sequenced so far
+    private long currentCursor() {
+        ChangeFeedResponse response;
+        long cursor = 0;
+        do {
+            response = changeFeedService.poll(request(cursor, 0)).join();
+            cursor = response.getNextCursor();
+        } while (response.isHasMore());
+        return cursor;
+    }
+
+    // Follows the feed from since with long polls until it returned the expected number of changes
+    private List<ChangeFeedEntry> readUntil(long since, int expected) throws Exception {
+        List<ChangeFeedEntry> changes = new ArrayList<>();
+        long cursor = since;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (changes.size() < expected && System.nanoTime() < deadline) {
+            ChangeFeedResponse response = changeFeedService.poll(request(cursor, 2)).get(5, TimeUnit.SECONDS);
+            changes.addAll(response.getChanges());
+            cursor = response.getNextCursor();
+        }
+        return changes;
+    }
+
+    // Waits until the change.feed.waiting gauge shows expected long polls
+    private void awaitWaiting(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("change.feed.waiting").gauge().value() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.get("change.feed.waiting").gauge().value()).isEqualTo(expected);
+    }
+
+    private static ChangeFeedRequest request(long since, int waitSeconds) {
+        ChangeFeedRequest request = new ChangeFeedRequest();
+        request.setSince(since);
+        request.setWait(waitSeconds);
+        return request;
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
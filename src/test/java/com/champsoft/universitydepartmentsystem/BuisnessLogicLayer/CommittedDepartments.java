@@ -0,0 +1,44 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Departments a test committed outside the test transaction. deleteAll() removes them with their professors in a
+// transaction of its own (bulk deletes, so no change events), keeping them out of later tests on the cached context.
+final class CommittedDepartments {
+
+    private final TestEntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Long> ids = new ArrayList<>();
+
+    CommittedDepartments(TestEntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    Long add(Long departmentId) {
+        ids.add(departmentId);
+        return departmentId;
+    }
+
+    void deleteAll() {
+        if (ids.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.getEntityManager()
+                    .createQuery("delete from Professor p where p.department.id in :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            entityManager.getEntityManager()
+                    .createQuery("delete from Department d where d.id in :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+        });
+        ids.clear();
+    }
+}
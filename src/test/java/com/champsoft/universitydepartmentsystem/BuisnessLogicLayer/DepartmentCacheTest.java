@@ -0,0 +1,122 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
+import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import com.champsoft.universitydepartmentsystem.config.CacheConfig;
+import com.champsoft.universitydepartmentsystem.utilities.NotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The department caches: repeated reads skip the database, and writes evict the entries once they commit.
+// Runs without the test transaction so the after-commit invalidation actually happens.
+@DataJpaTest
+@Import({DepartmentService.class, DepartmentMapper.class, ProfessorMapper.class, ProfessorService.class,
+        DepartmentAggregateUpdater.class, DepartmentCacheInvalidator.class, CacheConfig.class})
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE) // @DataJpaTest turns caching off by default
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DepartmentCacheTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private StatementCounter statementCounter;
+    private CommittedDepartments committed;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+        committed = new CommittedDepartments(entityManager, transactionManager);
+    }
+
+    @AfterEach
+    void deleteCommittedDepartments() {
+        committed.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void findById_secondReadIsACacheHit() {
+        Long id = committed.add(departmentService.create(new DepartmentRequestModel("Q Department", "Q-0", 1990, null)).getId());
+        long hitsBefore = departmentsCache().getNativeCache().stats().hitCount();
+
+        long firstRead = statementCounter.count(() -> departmentService.findById(id));
+        long secondRead = statementCounter.count(() -> departmentService.findById(id));
+
+        assertThat(firstRead).isEqualTo(1);
+        assertThat(secondRead).isZero();
+        assertThat(departmentsCache().getNativeCache().stats().hitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void update_evictsTheEntryAfterCommit() {
+        Long id = committed.add(departmentService.create(new DepartmentRequestModel("R Department", "R-0", 1990, null)).getId());
+        departmentService.findById(id);
+        assertThat(departmentsCache().get(id)).isNotNull();
+
+        departmentService.update(id, new DepartmentRequestModel("R Renamed", "R-0", 1990, null));
+
+        assertThat(departmentsCache().get(id)).isNull();
+        assertThat(departmentService.findById(id).getName()).isEqualTo("R Renamed");
+    }
+
+    @Test
+    void professorCreate_evictsTheDepartmentAfterCommit() {
+        Long id = committed.add(departmentService.create(new DepartmentRequestModel("S Department", "S-0", 1990, null)).getId());
+        assertThat(departmentService.findById(id).getProfessorCount()).isZero();
+
+        professorService.create(new ProfessorRequestModel("Ada", "Lovelace", "s.ada@test.ca", "Lecturer", id, null));
+
+        assertThat(departmentsCache().get(id)).isNull();
+        assertThat(departmentService.findById(id).getProfessorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void delete_evictsTheEntryAfterCommit() {
+        Long id = committed.add(departmentService.create(new DepartmentRequestModel("T Department", "T-0", 1990, null)).getId());
+        departmentService.findById(id);
+        departmentService.getSummary(id);
+
+        departmentService.delete(id);
+
+        assertThat(departmentsCache().get(id)).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.DEPARTMENT_SUMMARIES).get(id)).isNull();
+        assertThatThrownBy(() -> departmentService.findById(id)).isInstanceOf(NotFoundException.class);
+    }
+
+    private CaffeineCache departmentsCache() {
+        return (CaffeineCache) cacheManager.getCache(CacheConfig.DEPARTMENTS);
+    }
+}
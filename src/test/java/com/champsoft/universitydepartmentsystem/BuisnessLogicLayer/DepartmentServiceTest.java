@@ -0,0 +1,291 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentPageRequest;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentProfessorsRequest;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentResponseModel;
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentWithProfessorsResponseDTO;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorMoveRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import com.champsoft.universitydepartmentsystem.utilities.ConflictException;
+import com.champsoft.universitydepartmentsystem.utilities.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Regression tests for the department read path: the number of SQL statements must not grow with the data.
+@DataJpaTest
+@Import({DepartmentService.class, DepartmentMapper.class, ProfessorMapper.class,
+        ProfessorService.class, DepartmentAggregateUpdater.class})
+class DepartmentServiceTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private StatementCounter statementCounter;
+    private SeedFixture seed;
+    private Statistics statistics;
+    private CommittedDepartments committed;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+        seed = new SeedFixture(entityManager);
+        statistics = statementCounter.statistics();
+        committed = new CommittedDepartments(entityManager, transactionManager);
+    }
+
+    @AfterEach
+    void deleteCommittedDepartments() {
+        committed.deleteAll();
+    }
+
+    @Test
+    void getDepartmentsPage_usesConstantNumberOfStatements() {
+        seed.departments("A", 3, 2);
+        long statementsForFewDepartments = statementCounter.count(() ->
+                assertThat(departmentService.getDepartmentsPage(pageNamed("A ")).getItems()).hasSize(3));
+
+        seed.departments("B", 25, 4);
+        long statementsForManyDepartments = statementCounter.count(() ->
+                assertThat(departmentService.getDepartmentsPage(pageNamed("B ")).getItems()).hasSize(25));
+
+        assertThat(statementsForFewDepartments).isEqualTo(1);
+        assertThat(statementsForManyDepartments).isEqualTo(statementsForFewDepartments);
+    }
+
+    @Test
+    void getDepartmentsPage_reportsProfessorCounts() {
+        seed.departments("C", 2, 3);
+        entityManager.persistAndFlush(new Department("C Empty Department", "C-EMPTY", 2001));
+        entityManager.clear();
+
+        List<DepartmentResponseModel> departments = departmentService.getDepartmentsPage(pageNamed("C ")).getItems();
+
+        assertThat(departments)
+                .extracting(DepartmentResponseModel::getCode, DepartmentResponseModel::getProfessorCount)
+                .containsExactlyInAnyOrder(
+                        tuple("C-0", 3),
+                        tuple("C-1", 3),
+                        tuple("C-EMPTY", 0));
+    }
+
+    @Test
+    void findById_usesSingleStatement() {
+        Long id = seed.departments("D", 1, 5).get(0).getId();
+
+        long statements = statementCounter.count(() -> {
+            DepartmentResponseModel department = departmentService.findById(id);
+            assertThat(department.getProfessorCount()).isEqualTo(5);
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void getDepartmentWithProfessors_usesSingleStatementWithoutLoadingEntities() {
+        Long id = seed.departments("I", 1, 30).get(0).getId();
+
+        long statements = statementCounter.count(() -> {
+            DepartmentWithProfessorsResponseDTO department =
+                    departmentService.getDepartmentWithProfessors(id, new DepartmentProfessorsRequest());
+            assertThat(department.getProfessors()).hasSize(30);
+            assertThat(department.getNextCursor()).isNull();
+        });
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getDepartmentWithProfessors_pagesProfessorsInLastNameOrder() {
+        Long id = seed.departments("J", 1, 7).get(0).getId();
+        DepartmentProfessorsRequest request = new DepartmentProfessorsRequest();
+        request.setLimit(3);
+
+        List<String> lastNames = new ArrayList<>();
+        int pages = 0;
+        do {
+            DepartmentWithProfessorsResponseDTO page = departmentService.getDepartmentWithProfessors(id, request);
+            page.getProfessors().forEach(p -> lastNames.add(p.getLastName()));
+            request.setCursor(page.getNextCursor());
+            pages++;
+        } while (request.getCursor() != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(lastNames).containsExactly("Last0", "Last1", "Last2", "Last3", "Last4", "Last5", "Last6");
+    }
+
+    @Test
+    void getDepartmentWithProfessors_returnsDepartmentWithoutProfessors() {
+        Long id = seed.departments("K", 1, 0).get(0).getId();
+
+        DepartmentWithProfessorsResponseDTO department =
+                departmentService.getDepartmentWithProfessors(id, new DepartmentProfessorsRequest());
+
+        assertThat(department.getCode()).isEqualTo("K-0");
+        assertThat(department.getProfessors()).isEmpty();
+    }
+
+    @Test
+    void update_withStaleVersion_isRejected() {
+        Long id = seed.departments("E", 1, 0).get(0).getId();
+
+        DepartmentResponseModel updated = departmentService.update(id, new DepartmentRequestModel("E Renamed", "E-0", 1990, 0L));
+        entityManager.clear();
+
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> departmentService.update(id, new DepartmentRequestModel("E Stale", "E-0", 1990, 0L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void getDepartmentsETag_changesWhenDepartmentIsAdded() {
+        seed.departments("F", 1, 0);
+        String before = departmentService.getDepartmentsETag();
+
+        seed.departments("G", 1, 0);
+
+        assertThat(departmentService.getDepartmentsETag()).isNotEqualTo(before);
+    }
+
+    // Runs without the test transaction so the commit-time version increment actually happens
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getDepartmentETag_changesWhenProfessorIsAdded() {
+        Long id = committed.add(departmentService.create(new DepartmentRequestModel("H Department", "H-0", 1990, null)).getId());
+        String before = departmentService.getDepartmentETag(id);
+
+        professorService.create(new ProfessorRequestModel("Ada", "Lovelace", "h.ada@test.ca", "Lecturer", id, null));
+
+        assertThat(departmentService.getDepartmentETag(id)).isNotEqualTo(before);
+    }
+
+    // Runs without the test transaction so the commit-time count changes actually happen
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void professorCount_followsCreateMoveAndDelete() {
+        Long from = committed.add(departmentService.create(new DepartmentRequestModel("L Department", "L-0", 1990, null)).getId());
+        Long to = committed.add(departmentService.create(new DepartmentRequestModel("L Other", "L-1", 1990, null)).getId());
+        Long first = professorService.create(new ProfessorRequestModel("Ada", "Lovelace", "l.ada@test.ca", "Lecturer", from, null)).getId();
+        professorService.create(new ProfessorRequestModel("Alan", "Turing", "l.alan@test.ca", "Lecturer", from, null));
+
+        professorService.update(first, new ProfessorRequestModel("Ada", "Lovelace", "l.ada@test.ca", "Lecturer", to, null));
+        assertThat(departmentService.findById(from).getProfessorCount()).isEqualTo(1);
+        assertThat(departmentService.findById(to).getProfessorCount()).isEqualTo(1);
+
+        professorService.delete(first);
+        assertThat(departmentService.findById(to).getProfessorCount()).isZero();
+    }
+
+    // Runs without the test transaction so the commit-time count changes actually happen
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void moveProfessors_movesTheSelectedProfessorsAndKeepsCountsInStep() {
+        Long from = committed.add(departmentService.create(new DepartmentRequestModel("O Department", "O-0", 1990, null)).getId());
+        Long other = committed.add(departmentService.create(new DepartmentRequestModel("O Other", "O-1", 1990, null)).getId());
+        Long to = committed.add(departmentService.create(new DepartmentRequestModel("O Target", "O-2", 1990, null)).getId());
+        Long dean = professorService.create(new ProfessorRequestModel("Ada", "Lovelace", "o.ada@test.ca", "Dean", from, null)).getId();
+        professorService.create(new ProfessorRequestModel("Alan", "Turing", "o.alan@test.ca", "Lecturer", from, null));
+        professorService.create(new ProfessorRequestModel("Grace", "Hopper", "o.grace@test.ca", "Lecturer", from, null));
+        Long elsewhere = professorService.create(new ProfessorRequestModel("Edsger", "Dijkstra", "o.edsger@test.ca", "Lecturer", other, null)).getId();
+        String targetETag = departmentService.getDepartmentETag(to);
+
+        int moved = professorService.moveToDepartment(to, new ProfessorMoveRequest(null, "Lecturer", from)).getMoved();
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(departmentService.findById(from).getProfessorCount()).isEqualTo(1);
+        assertThat(departmentService.findById(other).getProfessorCount()).isEqualTo(1);
+        assertThat(departmentService.findById(to).getProfessorCount()).isEqualTo(2);
+        assertThat(departmentService.getDepartmentETag(to)).isNotEqualTo(targetETag);
+
+        // Professors already in the target department are not counted
+        moved = professorService.moveToDepartment(to, new ProfessorMoveRequest(List.of(dean, elsewhere, dean), null, null)).getMoved();
+        assertThat(moved).isEqualTo(2);
+        assertThat(professorService.findById(dean).getDepartmentId()).isEqualTo(to);
+        assertThat(departmentService.findById(from).getProfessorCount()).isZero();
+        assertThat(departmentService.findById(other).getProfessorCount()).isZero();
+        assertThat(departmentService.findById(to).getProfessorCount()).isEqualTo(4);
+    }
+
+    @Test
+    void delete_isRejectedWhileProfessorsRemainThenTakesOneStatement() {
+        Long id = seed.departments("R", 1, 2).get(0).getId();
+
+        assertThatThrownBy(() -> departmentService.delete(id))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("still has 2 professor(s)");
+
+        List<Long> professorIds = entityManager.getEntityManager()
+                .createQuery("select p.id from Professor p where p.department.id = :id", Long.class)
+                .setParameter("id", id)
+                .getResultList();
+        professorService.deleteByIds(professorIds);
+
+        long statements = statementCounter.count(() -> departmentService.delete(id));
+        assertThat(statements).isEqualTo(1);
+        assertThatThrownBy(() -> departmentService.delete(id)).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void reconcile_repairsDriftedProfessorCount() {
+        Long drifted = seed.departments("M", 1, 4).get(0).getId();
+        Long intact = seed.departments("N", 1, 2).get(0).getId();
+        entityManager.getEntityManager()
+                .createQuery("update Department d set d.professorCount = 9 where d.id = :id")
+                .setParameter("id", drifted)
+                .executeUpdate();
+
+        List<Long> repaired = new ProfessorCountReconciler(departmentRepository, event -> { },
+                transactionManager, new SimpleMeterRegistry()).reconcile();
+        entityManager.clear();
+
+        assertThat(repaired).containsExactly(drifted);
+        assertThat(departmentService.findById(drifted).getProfessorCount()).isEqualTo(4);
+        assertThat(departmentService.findById(intact).getProfessorCount()).isEqualTo(2);
+    }
+
+    // One page of the departments whose name starts with prefix (seeded names are "<prefix> Department <n>")
+    private static DepartmentPageRequest pageNamed(String prefix) {
+        DepartmentPageRequest request = new DepartmentPageRequest();
+        request.setName(prefix);
+        return request;
+    }
+}
@@ -0,0 +1,201 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class) // The ObjectMapper behind the NDJSON writer
+@Import({ProfessorExportService.class, ProfessorExportServiceTest.JdbcRecorder.class})
+class ProfessorExportServiceTest {
+
+    @Autowired
+    private ProfessorExportService professorExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcRecorder jdbcRecorder;
+
+    private StatementCounter statementCounter;
+    private SeedFixture seed;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+        seed = new SeedFixture(entityManager);
+    }
+
+    @Test
+    void exportDirectory_writesOneJsonObjectPerProfessorOrderedById() throws IOException {
+        seed.professors("X", 3, 2);
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : export(ProfessorExportService.Format.NDJSON).split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+
+        assertThat(rows).extracting(row -> row.get("id").asLong()).isSorted().doesNotHaveDuplicates();
+        List<JsonNode> seeded = rows.stream().filter(row -> row.get("departmentCode").asText().startsWith("X-")).toList();
+        assertThat(seeded).hasSize(6);
+        assertThat(seeded.get(0).get("email").asText()).isEqualTo("x0.0@test.ca");
+        assertThat(seeded.get(0).get("departmentName").asText()).isEqualTo("X Department 0");
+        assertThat(seeded.get(0).get("departmentId").asLong()).isPositive();
+    }
+
+    @Test
+    void exportDirectory_quotesCsvValues() {
+        Department department = seed.departments("Y", 1, 0).get(0);
+        Professor professor = entityManager.persistFlushFind(new Professor("Conan", "O\"Brien, Jr", "y.conan@test.ca",
+                "Lecturer", entityManager.find(Department.class, department.getId())));
+
+        String[] lines = export(ProfessorExportService.Format.CSV).split("\r\n");
+
+        assertThat(lines[0]).isEqualTo("id,firstName,lastName,email,title,departmentId,departmentCode,departmentName");
+        assertThat(lines).contains(professor.getId() + ",Conan,\"O\"\"Brien, Jr\",y.conan@test.ca,Lecturer,"
+                + department.getId() + ",Y-0,Y Department 0");
+    }
+
+    @Test
+    void exportDirectory_readsThroughOneStatementWithoutLoadingEntities() {
+        seed.professors("Z", 4, 5);
+
+        long statements = statementCounter.count(() -> export(ProfessorExportService.Format.NDJSON));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(statementCounter.statistics().getEntityLoadCount()).isZero();
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    // Runs without the test transaction so the export opens its own read-only transaction
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void exportDirectory_usesAReadOnlyConnectionAndTheFetchSize() {
+        jdbcRecorder.clear();
+
+        export(ProfessorExportService.Format.CSV);
+
+        assertThat(jdbcRecorder.readOnlyConnections).containsExactly(true);
+        assertThat(jdbcRecorder.fetchSizes).containsExactly(500);
+    }
+
+    private String export(ProfessorExportService.Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            professorExportService.exportDirectory(format, out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // Wraps the DataSource to record the read-only flag set on connections and the fetch size set on statements
+    static class JdbcRecorder implements BeanPostProcessor {
+
+        final List<Boolean> readOnlyConnections = new CopyOnWriteArrayList<>();
+        final List<Integer> fetchSizes = new CopyOnWriteArrayList<>();
+
+        void clear() {
+            readOnlyConnections.clear();
+            fetchSizes.clear();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recording(super.getConnection());
+                }
+            };
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection.class, connection, (method, args) -> {
+                if (method.equals("setReadOnly") && (Boolean) args[0]) {
+                    readOnlyConnections.add(true);
+                }
+            }, this::recording);
+        }
+
+        private Statement recording(Statement statement) {
+            return proxy(Statement.class, statement, (method, args) -> {
+                if (method.equals("setFetchSize")) {
+                    fetchSizes.add((Integer) args[0]);
+                }
+            }, null);
+        }
+
+        // A proxy with all the interfaces of target (a prepared statement stays a PreparedStatement)
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(Class<T> type, T target, Recorder recorder, UnaryOperator<Statement> statements) {
+            return (T) Proxy.newProxyInstance(getClass().getClassLoader(), interfacesOf(target.getClass()), (proxy, method, args) -> {
+                recorder.record(method.getName(), args);
+                try {
+                    Object result = method.invoke(target, args);
+                    return statements != null && result instanceof Statement statement ? statements.apply(statement) : result;
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            });
+        }
+
+        private static Class<?>[] interfacesOf(Class<?> type) {
+            List<Class<?>> interfaces = new ArrayList<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Class<?> candidate : current.getInterfaces()) {
+                    if (!interfaces.contains(candidate)) {
+                        interfaces.add(candidate);
+                    }
+                }
+            }
+            return interfaces.toArray(Class<?>[]::new);
+        }
+
+        private interface Recorder {
+            void record(String method, Object[] args);
+        }
+    }
+}
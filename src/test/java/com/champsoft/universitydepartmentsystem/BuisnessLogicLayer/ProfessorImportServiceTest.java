@@ -0,0 +1,138 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.BulkImportResponse;
+import com.champsoft.universitydepartmentsystem.DTO.BulkImportRowResult;
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// The import batches join the test transaction here, so every test rolls back what it imported.
+@DataJpaTest(properties = "app.bulk-import.batch-size=10")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class}) // Row parsing and validation
+@Import({ProfessorImportService.class, ProfessorMapper.class})
+class ProfessorImportServiceTest {
+
+    @Autowired
+    private ProfessorImportService professorImportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementCounter statementCounter;
+    private SeedFixture seed;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+        seed = new SeedFixture(entityManager);
+    }
+
+    @Test
+    void importProfessors_insertsInBatchesWithConstantStatementsPerBatch() {
+        Department department = seed.departments("U", 1, 0).get(0);
+        String rows = IntStream.range(0, 25)
+                .mapToObj(i -> row("Ada", "Lovelace", "u.ada" + i + "@test.ca", "\"departmentId\":" + department.getId()))
+                .collect(Collectors.joining("\n"));
+
+        long statements = statementCounter.count(() -> {
+            BulkImportResponse response = importProfessors(rows);
+            assertThat(response.getReceived()).isEqualTo(25);
+            assertThat(response.getCreated()).isEqualTo(25);
+        });
+
+        // The department lookup, then per batch of 10 one existing-email query and one batched INSERT (unbatched,
+        // each row would prepare its own), plus at most one sequence call: ids are allocated 50 at a time
+        assertThat(statementCounter.statistics().getEntityInsertCount()).isEqualTo(25);
+        assertThat(statements).isBetween(1L + 3 * 2, 1L + 3 * 2 + 1);
+        assertThat(professorCount("U-0")).isEqualTo(25);
+    }
+
+    @Test
+    void importProfessors_reportsFailedRowsAndInsertsOnlyTheValidOnes() {
+        Department department = seed.departments("V", 1, 1).get(0);
+        String existingEmail = "v0.0@test.ca";
+        String rows = "[" + String.join(",",
+                row("Ada", "Lovelace", "v.ada@test.ca", "\"departmentCode\":\"V-0\""),
+                row("", "Turing", "v.alan@test.ca", "\"departmentId\":" + department.getId()),
+                row("Ada", "Again", "v.ada@test.ca", "\"departmentCode\":\"V-0\""),
+                row("Grace", "Hopper", "v.grace@test.ca", "\"departmentCode\":\"NOPE\""),
+                row("Edsger", "Dijkstra", existingEmail, "\"departmentId\":" + department.getId()),
+                row("Barbara", "Liskov", "v.barbara@test.ca", "")) + "]";
+
+        BulkImportResponse response = importProfessors(rows);
+
+        assertThat(response.getReceived()).isEqualTo(6);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getResults())
+                .extracting(BulkImportRowResult::getRow, BulkImportRowResult::getStatus, BulkImportRowResult::getErrors)
+                .containsExactly(
+                        tuple(0, BulkImportRowResult.Status.CREATED, null),
+                        tuple(1, BulkImportRowResult.Status.FAILED, List.of("firstName: First name is required.")),
+                        tuple(2, BulkImportRowResult.Status.FAILED, List.of("email: Duplicate email within this import.")),
+                        tuple(3, BulkImportRowResult.Status.FAILED, List.of("department: Department with code NOPE not found.")),
+                        tuple(4, BulkImportRowResult.Status.FAILED, List.of("email: A professor with this email already exists.")),
+                        tuple(5, BulkImportRowResult.Status.FAILED, List.of("department: Either departmentId or departmentCode is required.")));
+        // The seeded professor and the one valid row, nothing else
+        assertThat(professorCount("V-0")).isEqualTo(2);
+    }
+
+    @Test
+    void importProfessors_keepsTheRowsBeforeMalformedJson() {
+        seed.departments("W", 1, 0);
+        String rows = row("Ada", "Lovelace", "w.ada@test.ca", "\"departmentCode\":\"W-0\"") + "\n{\"firstName\":";
+
+        BulkImportResponse response = importProfessors(rows);
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getResults()).last().satisfies(result -> {
+            assertThat(result.getRow()).isEqualTo(1);
+            assertThat(result.getStatus()).isEqualTo(BulkImportRowResult.Status.FAILED);
+            assertThat(result.getErrors()).singleElement().asString().startsWith("Malformed JSON, import stopped at this row");
+        });
+        assertThat(professorCount("W-0")).isEqualTo(1);
+    }
+
+    private BulkImportResponse importProfessors(String body) {
+        try {
+            return professorImportService.importProfessors(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private long professorCount(String departmentCode) {
+        return entityManager.getEntityManager()
+                .createQuery("select count(p) from Professor p where p.department.code = :code", Long.class)
+                .setParameter("code", departmentCode)
+                .getSingleResult();
+    }
+
+    private static String row(String firstName, String lastName, String email, String department) {
+        return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + lastName + "\",\"email\":\"" + email
+                + "\",\"title\":\"Lecturer\"" + (department.isEmpty() ? "" : "," + department) + "}";
+    }
+}
@@ -0,0 +1,49 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfessorSearchIndexTest {
+
+    private final ProfessorSearchIndex index = new ProfessorSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(new ProfessorSearchIndex.Document(1L, "Alice", "Smith", "a.smith@uni.ca", "Full Professor", 1L));
+        index.put(new ProfessorSearchIndex.Document(2L, "Smith", "Jones", "s.jones@uni.ca", "Lecturer", 1L));
+        index.put(new ProfessorSearchIndex.Document(3L, "José", "Smithers", "jose.s@uni.ca", "Lecturer", 2L));
+        index.put(new ProfessorSearchIndex.Document(4L, "Bob", "Brown", "b.brown@uni.ca", "Associate Professor", 2L));
+    }
+
+    @Test
+    void search_ranksExactLastNameAboveFirstNameAndPrefixMatches() {
+        assertThat(index.search("smith", 10))
+                .extracting(ProfessorSearchResult::getId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void search_requiresEveryWordAndIgnoresCaseAndAccents() {
+        assertThat(index.search("JOSE lect", 10)).extracting(ProfessorSearchResult::getId).containsExactly(3L);
+        assertThat(index.search("professor b", 10)).extracting(ProfessorSearchResult::getId).containsExactly(4L);
+        assertThat(index.search("professor zed", 10)).isEmpty();
+    }
+
+    @Test
+    void search_appliesLimitAfterRanking() {
+        assertThat(index.search("smi", 2)).extracting(ProfessorSearchResult::getId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void putAndRemove_replaceTheIndexedProfessor() {
+        index.put(new ProfessorSearchIndex.Document(1L, "Alice", "Walker", "a.walker@uni.ca", "Full Professor", 1L));
+        index.remove(2L);
+
+        assertThat(index.search("smith", 10)).extracting(ProfessorSearchResult::getId).containsExactly(3L);
+        assertThat(index.search("walker", 10)).extracting(ProfessorSearchResult::getId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
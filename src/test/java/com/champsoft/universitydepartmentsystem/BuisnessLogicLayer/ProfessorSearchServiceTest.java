@@ -0,0 +1,103 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.DepartmentRequestModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorSearchResult;
+import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Writes through ProfessorService reach the search index after they commit, on the background refresher,
+// so these tests run without the test transaction and delete the departments they committed afterwards.
+@DataJpaTest
+@Import({DepartmentService.class, DepartmentMapper.class, ProfessorMapper.class, ProfessorService.class,
+        DepartmentAggregateUpdater.class, ProfessorSearchService.class, ProfessorSearchServiceTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProfessorSearchServiceTest {
+
+    @Autowired
+    private ProfessorSearchService professorSearchService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CommittedDepartments committed;
+
+    @BeforeEach
+    void setUp() {
+        committed = new CommittedDepartments(entityManager, transactionManager);
+        // ApplicationReadyEvent is not published in a @DataJpaTest
+        professorSearchService.rebuild();
+    }
+
+    @AfterEach
+    void deleteCommittedDepartments() {
+        committed.deleteAll();
+    }
+
+    @Test
+    void committedWrites_reachSearchResultsAfterTheRefresh() throws InterruptedException {
+        Long department = committed.add(departmentService.create(new DepartmentRequestModel("N Department", "N-0", 1990, null)).getId());
+
+        Long id = professorService.create(new ProfessorRequestModel("Ada", "Quillfeather", "n.ada@test.ca", "Lecturer", department, null)).getId();
+        awaitSearch("quillfeather", List.of(id));
+
+        professorService.update(id, new ProfessorRequestModel("Ada", "Thornbury", "n.ada@test.ca", "Lecturer", department, null));
+        awaitSearch("thornbury", List.of(id));
+        assertThat(search("quillfeather")).isEmpty();
+
+        professorService.delete(id);
+        awaitSearch("thornbury", List.of());
+    }
+
+    private void awaitSearch(String q, List<Long> expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!search(q).equals(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(search(q)).isEqualTo(expected);
+    }
+
+    private List<Long> search(String q) {
+        ProfessorSearchRequest request = new ProfessorSearchRequest();
+        request.setQ(q);
+        return professorSearchService.search(request).stream().map(ProfessorSearchResult::getId).toList();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
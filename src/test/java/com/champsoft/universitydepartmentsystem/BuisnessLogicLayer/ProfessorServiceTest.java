@@ -0,0 +1,292 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DTO.BatchGetResponse;
+import com.champsoft.universitydepartmentsystem.DTO.CompactProfessor;
+import com.champsoft.universitydepartmentsystem.DTO.CompactProfessorPage;
+import com.champsoft.universitydepartmentsystem.DTO.CursorPageResponse;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorDeleteResponse;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorPageRequest;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorRequestModel;
+import com.champsoft.universitydepartmentsystem.DTO.ProfessorResponseModel;
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
+import com.champsoft.universitydepartmentsystem.MapperLayer.DepartmentMapper;
+import com.champsoft.universitydepartmentsystem.MapperLayer.ProfessorMapper;
+import com.champsoft.universitydepartmentsystem.utilities.JsonMergePatch;
+import com.champsoft.universitydepartmentsystem.utilities.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class}) // ObjectMapper and Validator of the patch tests
+@Import({ProfessorService.class, DepartmentService.class, ProfessorMapper.class, DepartmentMapper.class})
+class ProfessorServiceTest {
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    private StatementCounter statementCounter;
+    private SeedFixture seed;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+        seed = new SeedFixture(entityManager);
+        statistics = statementCounter.statistics();
+    }
+
+    @Test
+    void findPage_loadsProfessorsAndDepartmentsInOneStatement() {
+        ProfessorPageRequest request = new ProfessorPageRequest();
+        request.setLimit(100);
+        seed.professors("A", 2, 3);
+        long statementsForFewDepartments = statementCounter.count(() -> professorService.findPage(request));
+
+        seed.professors("B", 15, 3);
+        long statementsForManyDepartments = statementCounter.count(() -> {
+            List<ProfessorResponseModel> professors = professorService.findPage(request).getItems();
+            assertThat(professors).hasSize(6 + 45);
+            assertThat(professors).allSatisfy(p -> assertThat(p.getDepartment().getCode()).isNotNull());
+        });
+
+        assertThat(statementsForFewDepartments).isEqualTo(1);
+        assertThat(statementsForManyDepartments).isEqualTo(1);
+    }
+
+    @Test
+    void findPage_withNamePrefixSortedByLastName_ordersCaseInsensitivelyAcrossPages() {
+        Department department = seed.departments("P", 1, 0).get(0);
+        List.of("Baker", "bates", "BAXTER", "bach", "Adams").forEach(lastName -> entityManager.persist(new Professor(
+                "Ada", lastName, "p." + lastName.toLowerCase() + "@test.ca", "Lecturer", entityManager.find(Department.class, department.getId()))));
+        entityManager.flush();
+        entityManager.clear();
+        ProfessorPageRequest request = new ProfessorPageRequest();
+        request.setName("B");
+        request.setSort("lastName");
+        request.setLimit(2);
+
+        List<String> lastNames = new ArrayList<>();
+        do {
+            CursorPageResponse<ProfessorResponseModel> page = professorService.findPage(request);
+            page.getItems().forEach(p -> lastNames.add(p.getLastName()));
+            request.setCursor(page.getNextCursor());
+        } while (request.getCursor() != null);
+
+        assertThat(lastNames).containsExactly("bach", "Baker", "bates", "BAXTER");
+    }
+
+    @Test
+    void findCompactPage_listsEachDepartmentOnceInOneStatement() {
+        seed.professors("L", 3, 4);
+        ProfessorPageRequest request = new ProfessorPageRequest();
+        request.setName("Last");
+        request.setLimit(10);
+        List<ProfessorResponseModel> fullItems = professorService.findPage(request).getItems();
+
+        CompactProfessorPage[] page = new CompactProfessorPage[1];
+        long statements = statementCounter.count(() -> page[0] = professorService.findCompactPage(request));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(page[0].getItems())
+                .extracting(CompactProfessor::getId, CompactProfessor::getEmail, CompactProfessor::getDepartmentId)
+                .containsExactlyElementsOf(fullItems.stream()
+                        .map(p -> tuple(p.getId(), p.getEmail(), p.getDepartment().getId()))
+                        .toList());
+        assertThat(page[0].getDepartments().keySet())
+                .containsExactlyInAnyOrderElementsOf(fullItems.stream().map(p -> p.getDepartment().getId()).distinct().toList());
+        assertThat(page[0].getDepartments()).allSatisfy((id, department) -> assertThat(department.getId()).isEqualTo(id));
+        assertThat(page[0].getLimit()).isEqualTo(10);
+        assertThat(page[0].isHasMore()).isTrue();
+        assertThat(page[0].getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void findById_joinsDepartmentInOneStatement() {
+        Long id = seed.professors("D", 1, 1).get(0).getId();
+
+        long statements = statementCounter.count(() -> {
+            ProfessorResponseModel professor = professorService.findById(id);
+            assertThat(professor.getDepartment().getCode()).isEqualTo("D-0");
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void delete_issuesADirectDeleteWithoutLoadingTheProfessor() {
+        Long id = seed.professors("E", 1, 1).get(0).getId();
+
+        long statements = statementCounter.count(() -> professorService.delete(id));
+
+        // The department id of the row (locked), then DELETE by id
+        assertThat(statements).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(Professor.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Department.class.getName()).getLoadCount()).isZero();
+        assertThatThrownBy(() -> professorService.delete(id)).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void deleteByIds_deletesTheExistingProfessorsAndReportsMissingIds() {
+        List<Professor> professors = seed.professors("K", 2, 2);
+        Long first = professors.get(0).getId();
+        Long last = professors.get(3).getId();
+
+        long statements = statementCounter.count(() -> {
+            ProfessorDeleteResponse response = professorService.deleteByIds(List.of(last, -1L, first, last));
+            assertThat(response.getDeleted()).isEqualTo(2);
+            assertThat(response.getMissingIds()).containsExactly(-1L);
+        });
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(professorService.findByIds(professors.stream().map(Professor::getId).toList()).getMissingIds())
+                .containsExactly(first, last);
+    }
+
+    @Test
+    void findPage_walksFilteredListingByLastNameWithoutGapsOrDuplicates() {
+        Department department = entityManager.persist(new Department("Paging Department", "PAGE", 2000));
+        String[] lastNames = {"Zane", "Abbott", "Moss", "Abbott", "Kerr", "Moss", "Baker"};
+        for (int i = 0; i < lastNames.length; i++) {
+            entityManager.persist(new Professor("First" + i, lastNames[i], "page" + i + "@test.ca", "Lecturer", department));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ProfessorPageRequest request = new ProfessorPageRequest();
+        request.setDepartmentCode("PAGE");
+        request.setSort("lastName");
+        request.setLimit(3);
+
+        List<String> visited = new ArrayList<>();
+        CursorPageResponse<ProfessorResponseModel> page;
+        do {
+            page = professorService.findPage(request);
+            page.getItems().forEach(p -> visited.add(p.getLastName() + ":" + p.getEmail()));
+            request.setCursor(page.getNextCursor());
+        } while (page.isHasMore());
+
+        assertThat(visited).hasSize(lastNames.length).doesNotHaveDuplicates();
+        assertThat(visited).extracting(v -> v.substring(0, v.indexOf(':')))
+                .containsExactly("Abbott", "Abbott", "Baker", "Kerr", "Moss", "Moss", "Zane");
+    }
+
+    @Test
+    void findByIds_keepsRequestOrderAndReportsMissingIdsInOneStatement() {
+        List<Professor> professors = seed.professors("F", 2, 2);
+        Long first = professors.get(0).getId();
+        Long last = professors.get(3).getId();
+
+        long statements = statementCounter.count(() -> {
+            BatchGetResponse<ProfessorResponseModel> response = professorService.findByIds(List.of(last, -1L, first, last));
+            assertThat(response.getItems()).extracting(ProfessorResponseModel::getId).containsExactly(last, first);
+            assertThat(response.getItems()).allSatisfy(p -> assertThat(p.getDepartment().getCode()).startsWith("F-"));
+            assertThat(response.getMissingIds()).containsExactly(-1L);
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void patch_changingTitle_updatesWithoutDepartmentLookup() throws Exception {
+        Long id = seed.professors("G", 1, 1).get(0).getId();
+        JsonMergePatch patch = patch("{\"title\":\"Dean\"}");
+
+        long statements = statementCounter.count(() -> {
+            ProfessorResponseModel patched = professorService.patch(id, patch);
+            assertThat(patched.getDepartment().getCode()).isEqualTo("G-0");
+            entityManager.flush();
+        });
+        entityManager.clear();
+
+        // One select joining the current department, one UPDATE
+        assertThat(statements).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(professorService.findById(id).getTitle()).isEqualTo("Dean");
+        assertThat(professorService.findById(id).getEmail()).isEqualTo("g0.0@test.ca");
+    }
+
+    @Test
+    void patch_withoutChanges_writesNothing() throws Exception {
+        Long id = seed.professors("H", 1, 1).get(0).getId();
+
+        statistics.clear();
+        professorService.patch(id, patch("{\"title\":\"Lecturer\"}"));
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    void patch_clearingRequiredField_isRejected() throws Exception {
+        Long id = seed.professors("J", 1, 1).get(0).getId();
+
+        assertThatThrownBy(() -> professorService.patch(id, patch("{\"lastName\":null}")))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("lastName");
+    }
+
+    @Test
+    void update_withStaleVersion_isRejected() {
+        Professor professor = seed.professors("M", 1, 1).get(0);
+        Long departmentId = professor.getDepartment().getId();
+
+        ProfessorResponseModel updated = professorService.update(professor.getId(),
+                new ProfessorRequestModel("Ada", "Renamed", "m0.0@test.ca", "Lecturer", departmentId, 0L));
+        entityManager.clear();
+
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> professorService.update(professor.getId(),
+                new ProfessorRequestModel("Ada", "Stale", "m0.0@test.ca", "Lecturer", departmentId, 0L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void patch_withStaleVersion_isRejected() throws Exception {
+        Long id = seed.professors("N", 1, 1).get(0).getId();
+
+        ProfessorResponseModel patched = professorService.patch(id, patch("{\"title\":\"Dean\",\"version\":0}"));
+        entityManager.clear();
+
+        assertThat(patched.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> professorService.patch(id, patch("{\"title\":\"Chair\",\"version\":0}")))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    // The patch as the controller builds it
+    private JsonMergePatch patch(String json) throws Exception {
+        return new JsonMergePatch(objectMapper.readTree(json), objectMapper, validator);
+    }
+}
@@ -0,0 +1,75 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.ProfessorRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.SeedDataRepository;
+import com.champsoft.universitydepartmentsystem.DataLayer.SeedDataRepository.ProfessorSeedRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The loader's SQL ("on conflict do nothing") needs H2's PostgreSQL mode, so the embedded test database is not swapped in
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seeddb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "app.seed.departments=classpath:seed/departments.csv",
+        "app.seed.professors=classpath:seed/professors.csv",
+        "app.seed.synthetic-professors=120",
+        "app.seed.batch-size=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SeedDataLoader.class, SeedDataRepository.class})
+class SeedDataLoaderTest {
+
+    @Autowired
+    private SeedDataLoader seedDataLoader;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private SeedDataRepository seedDataRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void run_insertsSeedAndSyntheticRowsOnlyOnce() throws Exception {
+        seedDataLoader.run(new DefaultApplicationArguments());
+        seedDataLoader.run(new DefaultApplicationArguments());
+
+        assertThat(departmentRepository.count()).isEqualTo(10);
+        assertThat(professorRepository.count()).isEqualTo(52 + 120);
+        assertThat(professorRepository.findExistingEmails(List.of("a.smith@uni.ca", "synthetic.119@load.test")))
+                .hasSize(2);
+    }
+
+    @Test
+    void insertProfessors_countsOnlyTheRowsItInserted() throws Exception {
+        seedDataLoader.run(new DefaultApplicationArguments());
+        Long departmentId = departmentRepository.findAll().get(0).getId();
+        long countBefore = professorCount(departmentId);
+
+        // The first row's email is taken, so "on conflict do nothing" skips it
+        int inserted = seedDataRepository.insertProfessors(List.of(
+                new ProfessorSeedRow("Alan", "Smith", "a.smith@uni.ca", "Lecturer", departmentId),
+                new ProfessorSeedRow("Grace", "Hopper", "g.hopper@seed.test", "Lecturer", departmentId)));
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(professorCount(departmentId)).isEqualTo(countBefore + 1);
+    }
+
+    private long professorCount(Long departmentId) {
+        return jdbcTemplate.queryForObject("select professor_count from department where id = ?", Long.class, departmentId);
+    }
+}
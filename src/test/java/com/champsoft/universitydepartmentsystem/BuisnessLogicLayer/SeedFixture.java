@@ -0,0 +1,52 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.Professor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Departments and professors persisted straight through the test entity manager, named after a prefix
+// (departments "<prefix>-<n>", professors "<prefix><n>.<m>@test.ca") so each test can pick out its own rows.
+final class SeedFixture {
+
+    private final TestEntityManager entityManager;
+
+    SeedFixture(TestEntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    List<Department> departments(String prefix, int departments, int professorsPerDepartment) {
+        return seed(prefix, departments, professorsPerDepartment).departments();
+    }
+
+    List<Professor> professors(String prefix, int departments, int professorsPerDepartment) {
+        return seed(prefix, departments, professorsPerDepartment).professors();
+    }
+
+    private Seeded seed(String prefix, int departments, int professorsPerDepartment) {
+        Seeded seeded = new Seeded(new ArrayList<>(), new ArrayList<>());
+        for (int d = 0; d < departments; d++) {
+            Department department = entityManager.persist(
+                    new Department(prefix + " Department " + d, prefix + "-" + d, 1990));
+            for (int p = 0; p < professorsPerDepartment; p++) {
+                seeded.professors().add(entityManager.persist(new Professor("First" + p, "Last" + p,
+                        prefix.toLowerCase() + d + "." + p + "@test.ca", "Lecturer", department)));
+            }
+            seeded.departments().add(department);
+        }
+        entityManager.flush();
+        // Professors persisted directly bypass the count maintenance, so set the stored counts as the service would
+        entityManager.getEntityManager()
+                .createQuery("update Department d set d.professorCount = :count where d.code like :prefix")
+                .setParameter("count", (long) professorsPerDepartment)
+                .setParameter("prefix", prefix + "-%")
+                .executeUpdate();
+        entityManager.clear();
+        return seeded;
+    }
+
+    private record Seeded(List<Department> departments, List<Professor> professors) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.champsoft.universitydepartmentsystem.BuisnessLogicLayer;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// Counts the SQL statements an action prepares, from the Hibernate statistics (the statement-count regression tests).
+final class StatementCounter {
+
+    private final Statistics statistics;
+
+    StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Clears the statistics and runs action; statistics() then describe that action alone
+    long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    Statistics statistics() {
+        return statistics;
+    }
+}
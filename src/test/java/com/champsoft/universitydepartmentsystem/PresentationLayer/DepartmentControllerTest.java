@@ -0,0 +1,67 @@
+package com.champsoft.universitydepartmentsystem.PresentationLayer;
+
+import com.champsoft.universitydepartmentsystem.DataLayer.Department;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// POST /api/departments/{id}/professors:move through the whole web stack (validation, @ControllerAdvice)
+// against the seed data, in a database of its own.
+@SpringBootTest(properties = "app.datasource.url=jdbc:h2:mem:departmentcontrollerdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class DepartmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentRepository.findAll().stream()
+                .filter(d -> d.getProfessorCount() > 0)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void moveProfessors_withoutAnyFilter_isRejectedAndMovesNobody() throws Exception {
+        for (String body : List.of("{}", "{\"ids\":[]}", "{\"title\":\" \"}")) {
+            mockMvc.perform(post("/api/departments/{id}/professors:move", department.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.validationErrors.filterPresent")
+                            .value("At least one of ids, title or fromDepartmentId is required."));
+        }
+
+        assertThat(departmentRepository.findVersionById(department.getId())).contains(department.getVersion());
+    }
+
+    @Test
+    void moveProfessors_fromTheTargetDepartmentItself_movesNothing() throws Exception {
+        mockMvc.perform(post("/api/departments/{id}/professors:move", department.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromDepartmentId\":" + department.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departmentId").value(department.getId()))
+                .andExpect(jsonPath("$.moved").value(0));
+
+        assertThat(departmentRepository.findVersionById(department.getId())).contains(department.getVersion());
+    }
+}
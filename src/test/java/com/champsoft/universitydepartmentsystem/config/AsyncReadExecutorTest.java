@@ -0,0 +1,75 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.utilities.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncReadExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncReadExecutor readExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        readExecutor.destroy();
+    }
+
+    @Test
+    void submit_rejectsReadsOverTheEndpointLimit() throws Exception {
+        AsyncProperties properties = enabledProperties();
+        properties.getEndpointLimits().put("slow", 1);
+        readExecutor = new AsyncReadExecutor(properties, meterRegistry);
+
+        CompletableFuture<String> first = readExecutor.submit("slow", this::awaitRelease);
+
+        assertThatThrownBy(() -> readExecutor.submit("slow", () -> "second"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(readExecutor.submit("other", () -> "other").get(1, TimeUnit.SECONDS)).isEqualTo("other");
+        assertThat(meterRegistry.get("async.reads.rejected").tag("reason", "concurrency_limit").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    void submit_failsReadsThatExceedTheTimeout() {
+        AsyncProperties properties = enabledProperties();
+        properties.setRequestTimeout(Duration.ofMillis(50));
+        readExecutor = new AsyncReadExecutor(properties, meterRegistry);
+
+        CompletableFuture<String> read = readExecutor.submit("slow", this::awaitRelease);
+
+        assertThatThrownBy(() -> read.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private static AsyncProperties enabledProperties() {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setEnabled(true);
+        properties.setPoolSize(2);
+        return properties;
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
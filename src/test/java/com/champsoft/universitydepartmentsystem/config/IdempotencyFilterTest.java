@@ -0,0 +1,142 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.utilities.BadRequestException;
+import com.champsoft.universitydepartmentsystem.utilities.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Exception> rejections = new ArrayList<>();
+    private final HandlerExceptionResolver exceptionResolver = (request, response, handler, ex) -> {
+        rejections.add(ex);
+        return new ModelAndView();
+    };
+    private final IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyProperties(), new RateLimitProperties(),
+            exceptionResolver, meterRegistry);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    // Creates a resource and echoes the body it read
+    private final FilterChain create = (req, res) -> {
+        int id = executions.incrementAndGet();
+        HttpServletResponse response = (HttpServletResponse) res;
+        response.setStatus(201);
+        response.setHeader("Location", "/api/professors/" + id);
+        response.setContentType("application/json");
+        response.getOutputStream().write(req.getInputStream().readAllBytes());
+    };
+
+    @Test
+    void doFilter_replaysTheStoredResponseForARetry() throws Exception {
+        MockHttpServletResponse first = send("key-1", "{\"a\":1}", create);
+        MockHttpServletResponse retry = send("key-1", "{\"a\":1}", create);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Location")).isEqualTo(first.getHeader("Location"));
+        assertThat(retry.getContentAsString()).isEqualTo("{\"a\":1}");
+        assertThat(retry.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(meterRegistry.get("idempotency.replayed").counter().count()).isEqualTo(1);
+
+        // Another key is another request
+        send("key-2", "{\"a\":1}", create);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void doFilter_scopesKeysPerClient() throws Exception {
+        send("key-1", "{\"a\":1}", create);
+        MockHttpServletResponse other = send("10.0.0.2", "key-1", "{\"a\":1}", create);
+
+        assertThat(executions).hasValue(2);
+        assertThat(other.getHeader("Idempotent-Replayed")).isNull();
+        assertThat(other.getHeader("Location")).isEqualTo("/api/professors/2");
+    }
+
+    @Test
+    void doFilter_rejectsAReusedKeyWithAnotherBody() throws Exception {
+        send("key-1", "{\"a\":1}", create);
+        send("key-1", "{\"a\":2}", create);
+
+        assertThat(executions).hasValue(1);
+        assertThat(rejections).singleElement().isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void doFilter_rejectsARetryWhileTheFirstRequestIsRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> {
+            try {
+                send("key-1", "{}", (req, res) -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    create.doFilter(req, res);
+                });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        slow.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        send("key-1", "{}", create);
+        release.countDown();
+        slow.join(5000);
+
+        assertThat(executions).hasValue(1);
+        assertThat(rejections).singleElement().isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void doFilter_doesNotStoreServerErrors() throws Exception {
+        FilterChain failing = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(503);
+        };
+
+        send("key-1", "{}", failing);
+        send("key-1", "{}", failing);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        return send("127.0.0.1", key, body, chain);
+    }
+
+    private MockHttpServletResponse send(String remoteAddr, String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/professors");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("Idempotency-Key", key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
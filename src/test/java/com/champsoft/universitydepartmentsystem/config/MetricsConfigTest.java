@@ -0,0 +1,103 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.BuisnessLogicLayer.DepartmentService;
+import com.champsoft.universitydepartmentsystem.DataLayer.DepartmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The meters the dashboards rely on, after one request through the whole stack. Tests get the SimpleMeterRegistry
+// (no Prometheus export), which registers the same meters.
+@SpringBootTest(properties = "app.datasource.url=jdbc:h2:mem:metricsdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Test
+    void request_recordsEndpointServiceAndStatementMeters() throws Exception {
+        Long id = departmentRepository.findAll().get(0).getId();
+
+        // Reads return a CompletableFuture: the response (and its observation) completes in the async dispatch
+        MvcResult result = mockMvc.perform(get("/api/departments/{id}", id)).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        // http.server.requests with the configured percentiles
+        Timer request = meterRegistry.get("http.server.requests")
+                .tags("method", "GET", "uri", "/api/departments/{id}", "status", "200")
+                .timer();
+        assertThat(request.count()).isPositive();
+        assertThat(request.takeSnapshot().percentileValues()).hasSize(3);
+
+        // @Timed services through the TimedAspect
+        Timer service = meterRegistry.get("service.method")
+                .tags("class", DepartmentService.class.getName(), "method", "findById", "exception", "none")
+                .timer();
+        assertThat(service.count()).isPositive();
+        assertThat(service.takeSnapshot().percentileValues()).hasSize(3);
+
+        // Statements per request (RequestMetricsFilter)
+        assertThat(meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/departments/{id}")
+                .summary().count()).isPositive();
+    }
+
+    @Test
+    void streamingRequest_recordsTheStatementsOfItsBody() throws Exception {
+        // The export body runs on the MVC task executor after the handler returned
+        MvcResult result = mockMvc.perform(get("/api/professors/export")).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/professors/export")
+                .summary().totalAmount()).isPositive();
+    }
+
+    @Test
+    void caches_areExposedAsMetersAndThroughActuator() throws Exception {
+        Long id = departmentRepository.findAll().get(0).getId();
+        departmentService.findById(id);
+        departmentService.findById(id);
+
+        // cache.* meters from the Caffeine statistics (recordStats in spring.cache.caffeine.spec)
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "departments", "result", "hit")
+                .functionCounter().count()).isPositive();
+
+        mockMvc.perform(get("/actuator/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cacheManagers.cacheManager.caches.departments").exists());
+    }
+
+    @Test
+    void hibernateAndPoolMeters_areBound() {
+        departmentRepository.count();
+
+        assertThat(meterRegistry.get("hibernate.statements").tags("status", "prepared")
+                .tagKeys("entityManagerFactory").functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("hibernate.query.executions").functionCounter()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.active").tagKeys("pool").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.max").tagKeys("pool").gauge().value()).isPositive();
+    }
+}
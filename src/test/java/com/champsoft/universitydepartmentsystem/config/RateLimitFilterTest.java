@@ -0,0 +1,112 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import com.champsoft.universitydepartmentsystem.utilities.ServiceUnavailableException;
+import com.champsoft.universitydepartmentsystem.utilities.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Exception> rejections = new ArrayList<>();
+    private final HandlerExceptionResolver exceptionResolver = (request, response, handler, ex) -> {
+        rejections.add(ex);
+        return new ModelAndView();
+    };
+
+    @Test
+    void doFilter_limitsEachClientPerRoute() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put("professors-list", route("/api/professors", 2));
+        RateLimitFilter filter = new RateLimitFilter(properties, new ConnectionPoolMonitor(meterRegistry),
+                exceptionResolver, meterRegistry);
+
+        assertThat(send(filter, "/api/professors", "10.0.0.1")).isTrue();
+        assertThat(send(filter, "/api/professors", "10.0.0.1")).isTrue();
+        assertThat(send(filter, "/api/professors", "10.0.0.1")).isFalse();
+
+        // Other clients and other routes have buckets of their own
+        assertThat(send(filter, "/api/professors", "10.0.0.2")).isTrue();
+        assertThat(send(filter, "/api/professors/1", "10.0.0.1")).isTrue();
+
+        assertThat(rejections).singleElement().isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("ratelimit.rejected").tags("route", "professors-list", "reason", "rate_limit")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_shedsRequestsOverTheInFlightLimit() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getShedding().setMaxInFlight(1);
+        RateLimitFilter filter = new RateLimitFilter(properties, new ConnectionPoolMonitor(meterRegistry),
+                exceptionResolver, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread slow = new Thread(() -> {
+            try {
+                filter.doFilter(request("/api/departments", "10.0.0.1"), new MockHttpServletResponse(),
+                        (FilterChain) (req, res) -> {
+                            started.countDown();
+                            awaitQuietly(release);
+                        });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        slow.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(send(filter, "/api/departments", "10.0.0.2")).isFalse();
+        release.countDown();
+        slow.join(5000);
+        assertThat(send(filter, "/api/departments", "10.0.0.2")).isTrue();
+
+        assertThat(rejections).singleElement().isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("ratelimit.in.flight").gauge().value()).isZero();
+    }
+
+    // True when the request reached the rest of the chain
+    private static boolean send(RateLimitFilter filter, String uri, String clientIp) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(uri, clientIp), new MockHttpServletResponse(), chain);
+        return chain.getRequest() != null;
+    }
+
+    private static MockHttpServletRequest request(String uri, String clientIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(clientIp);
+        return request;
+    }
+
+    private static RateLimitProperties.Route route(String pattern, long capacity) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPattern(pattern);
+        route.setMethods(Set.of("get"));
+        route.setCapacity(capacity);
+        route.setRefillPerSecond(0.001);
+        return route;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
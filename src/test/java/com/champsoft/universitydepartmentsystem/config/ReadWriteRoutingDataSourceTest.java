@@ -0,0 +1,105 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two in-memory H2 databases stand in for the primary and the replica; each knows its own name.
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FailingDataSource replica = new FailingDataSource(database("replica"));
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(database("primary"), Map.of("replica-1", replica),
+                Duration.ofHours(1), Duration.ofSeconds(1), meterRegistry);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactions_goToTheReplicaAndEverythingElseToThePrimary() {
+        assertThat(databaseUsedBy(readOnlyTransaction)).isEqualTo("replica");
+        assertThat(databaseUsedBy(writeTransaction)).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+
+        assertThat(meterRegistry.get("datasource.routed.connections").tag("target", "replica-1").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void failedReplica_fallsBackToThePrimaryUntilAHealthCheckPasses() {
+        replica.failing = true;
+        assertThat(databaseUsedBy(readOnlyTransaction)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-1").gauge().value()).isZero();
+
+        replica.failing = false;
+        assertThat(databaseUsedBy(readOnlyTransaction)).isEqualTo("primary");
+
+        routingDataSource.checkReplicas();
+        assertThat(databaseUsedBy(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    private String databaseUsedBy(TransactionTemplate transaction) {
+        return transaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from target", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists target (name varchar(20))");
+        jdbcTemplate.update("delete from target");
+        jdbcTemplate.update("insert into target (name) values (?)", name);
+        return dataSource;
+    }
+
+    // A replica that can be switched off
+    private static class FailingDataSource extends DelegatingDataSource {
+
+        private volatile boolean failing;
+
+        FailingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
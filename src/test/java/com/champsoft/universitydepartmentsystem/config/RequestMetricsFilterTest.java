@@ -0,0 +1,84 @@
+package com.champsoft.universitydepartmentsystem.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestMetricsFilter filter = new RequestMetricsFilter(meterRegistry, Duration.ofMillis(500));
+    private final SqlStatementCounter statementCounter = new SqlStatementCounter();
+
+    // Runs two statements in a handler mapped to /api/departments/{id}
+    private final FilterChain handler = (req, res) -> {
+        req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/departments/{id}");
+        statementCounter.inspect("select 1");
+        statementCounter.inspect("select 2");
+    };
+
+    @Test
+    void doFilter_recordsTheStatementsOfEachRequestByRoute() throws Exception {
+        // Statements from before the request are not attributed to it
+        statementCounter.inspect("select 0");
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/departments/1"), new MockHttpServletResponse(), handler);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/departments/2"), new MockHttpServletResponse(), handler);
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/departments/{id}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(2);
+        assertThat(statements.totalAmount()).isEqualTo(4);
+        assertThat(statements.max()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_recordsAsyncReadsWhenTheResponseCompletes() throws Exception {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setEnabled(true);
+        AsyncReadExecutor readExecutor = new AsyncReadExecutor(properties, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/departments/1");
+        request.setAsyncSupported(true);
+        try {
+            // The handler returns once the read is submitted; the read runs its statements on an executor thread
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/departments/{id}");
+                req.startAsync();
+                try {
+                    readExecutor.submit("departments", () -> statementCounter.inspect("select 1"))
+                            .get(1, TimeUnit.SECONDS);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            assertThat(meterRegistry.find("http.server.requests.sql.statements").meters()).isEmpty();
+
+            request.getAsyncContext().complete();
+        } finally {
+            readExecutor.destroy();
+        }
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/departments/{id}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_ignoresRequestsOutsideTheApi() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), handler);
+
+        assertThat(meterRegistry.find("http.server.requests.sql.statements").meters()).isEmpty();
+    }
+}